@@ -1,47 +1,45 @@
 package com.attendance.base;
 
 import com.attendance.config.ConfigReader;
+import com.attendance.listeners.ExtentReportListener;
+import com.attendance.listeners.PerformanceBudgetListener;
+import com.attendance.pages.DashboardPage;
+import com.attendance.pages.PageNavigator;
+import com.attendance.utils.ApiCallAnalyzer;
+import com.attendance.utils.AuthSessionCache;
+import com.attendance.utils.CommandTracer;
 import com.attendance.utils.DriverManager;
+import com.attendance.utils.ExtentReportManager;
+import com.attendance.utils.LocatorProfiler;
+import com.attendance.utils.LocatorTimeouts;
 import com.attendance.utils.LoggerUtils;
+import com.attendance.utils.NetworkRecorder;
+import com.attendance.utils.PagePerformance;
+import com.attendance.utils.PerformanceBudget;
+import com.attendance.utils.RuntimeMetrics;
+import com.attendance.utils.ScreencastRecorder;
 import com.attendance.utils.ScreenshotUtils;
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.attendance.utils.TransactionTimer;
+import com.attendance.utils.WaitUtils;
 import com.aventstack.extentreports.Status;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
 /**
  * Base test class for all test classes
  * Handles setup, teardown, and reporting
  */
+@Listeners({ExtentReportListener.class, PerformanceBudgetListener.class})
 public class BaseTest {
-    protected WebDriver driver;
-    protected static ExtentReports extentReports;
-    protected ExtentTest extentTest;
 
     /**
-     * Setup Extent Reports before all tests
+     * Prepare shared resources before all tests
      */
     @BeforeSuite
     public void setupSuite() {
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String reportPath = "test-output/ExtentReport_" + timestamp + ".html";
-        
-        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
-        sparkReporter.config().setDocumentTitle("Admin Portal Test Report");
-        sparkReporter.config().setReportName("Selenium Automation Test Report");
-        
-        extentReports = new ExtentReports();
-        extentReports.attachReporter(sparkReporter);
-        extentReports.setSystemInfo("Browser", ConfigReader.getBrowser());
-        extentReports.setSystemInfo("Environment", "Production");
-        extentReports.setSystemInfo("OS", System.getProperty("os.name"));
-        
+        DriverManager.warmUp();
         LoggerUtils.info("Test suite started");
     }
 
@@ -52,51 +50,141 @@ public class BaseTest {
     @BeforeMethod
     public void setup(ITestResult result) {
         String testName = result.getMethod().getMethodName();
-        extentTest = extentReports.createTest(testName);
+        ExtentReportManager.ReportTest extentTest = ExtentReportManager.startTest(result);
         
+        LoggerUtils.startTestCapture(getTestLogName(result));
         LoggerUtils.info("Starting test: " + testName);
-        driver = DriverManager.getDriver();
-        driver.get(ConfigReader.getBaseUrl());
+        WebDriver driver = DriverManager.getDriver();
+        ScreencastRecorder.start(driver);
+        String startUrl = getStartUrl();
+        driver.get(startUrl);
         
-        extentTest.log(Status.INFO, "Navigated to: " + ConfigReader.getBaseUrl());
+        extentTest.log(Status.INFO, "Navigated to: " + startUrl);
+    }
+
+    /**
+     * Get the page each test starts on
+     * Tests that do not use the portal override this so they run without it
+     * @return URL loaded before each test, the base URL by default
+     */
+    protected String getStartUrl() {
+        return ConfigReader.getBaseUrl();
+    }
+
+    /**
+     * Get the WebDriver of the current test thread
+     * @return WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getCurrentDriver();
+    }
+
+    /**
+     * Get the report test of the current test thread
+     * @return Report test handle
+     */
+    protected ExtentReportManager.ReportTest getExtentTest() {
+        return ExtentReportManager.getTest();
+    }
+
+    /**
+     * Log in as admin and land on the dashboard
+     * Uses the cached authenticated session when enabled, otherwise the login form.
+     * The dashboard load is measured like any other page open
+     */
+    protected void loginAsAdmin() {
+        DashboardPage dashboardPage = new DashboardPage(getDriver());
+        if (PageNavigator.openAuthenticated(getDriver(), "/dashboard", "DashboardPage",
+                dashboardPage::isDashboardDisplayed)) {
+            getExtentTest().log(Status.INFO, "Restored cached admin session");
+        }
     }
 
     /**
      * Teardown after each test method
+     * Pass, fail and skip entries are written by the report listener
      * @param result Test result
      */
     @AfterMethod
     public void teardown(ITestResult result) {
         String testName = result.getMethod().getMethodName();
-        
-        if (result.getStatus() == ITestResult.FAILURE) {
-            extentTest.log(Status.FAIL, "Test failed: " + result.getThrowable().getMessage());
-            String screenshotPath = ScreenshotUtils.takeScreenshotOnFailure(driver, testName);
-            if (screenshotPath != null) {
-                extentTest.addScreenCaptureFromPath(screenshotPath);
+        ExtentReportManager.ReportTest extentTest = getExtentTest();
+
+        // The driver is released even if instrumentation fails; a leaked pooled session blocks other threads
+        try {
+            RuntimeMetrics.finishTest(getTestLogName(result));
+            ApiCallAnalyzer.analyze(NetworkRecorder.stop(getTestLogName(result)));
+
+            String screencastPath = ScreencastRecorder.stop(result.getStatus() == ITestResult.FAILURE,
+                    getTestLogName(result));
+            if (screencastPath != null) {
+                extentTest.info("Screencast of the last seconds: " + screencastPath);
+            }
+
+            if (result.getStatus() == ITestResult.FAILURE) {
+                String screenshotPath = ScreenshotUtils.takeScreenshotOnFailure(getDriver(), testName);
+                if (screenshotPath != null) {
+                    extentTest.addScreenCaptureFromPath(screenshotPath);
+                }
+                LoggerUtils.error("Test failed: " + testName);
+            } else if (result.getStatus() == ITestResult.SUCCESS) {
+                LoggerUtils.info("Test passed: " + testName);
+            } else if (result.getStatus() == ITestResult.SKIP) {
+                LoggerUtils.warn("Test skipped: " + testName);
+            }
+
+            // Finished last so the test log also has the teardown findings and the outcome line;
+            // buffered test log lines are only kept for tests that did not pass
+            String testLog = LoggerUtils.finishTestCapture(result.getStatus() != ITestResult.SUCCESS);
+            if (testLog != null) {
+                extentTest.info("Test log: " + LoggerUtils.getTestLogPath(getTestLogName(result)));
+                extentTest.info(MarkupHelper.createCodeBlock(testLog));
             }
-            LoggerUtils.error("Test failed: " + testName);
-        } else if (result.getStatus() == ITestResult.SUCCESS) {
-            extentTest.log(Status.PASS, "Test passed successfully");
-            LoggerUtils.info("Test passed: " + testName);
-        } else if (result.getStatus() == ITestResult.SKIP) {
-            extentTest.log(Status.SKIP, "Test skipped");
-            LoggerUtils.warn("Test skipped: " + testName);
+        } finally {
+            DriverManager.quitDriver();
         }
-        
-        DriverManager.quitDriver();
     }
 
     /**
-     * Flush Extent Reports after all tests
+     * Get the name a test's buffered log is kept under
+     * @param result Test result
+     * @return Test class and method name
+     */
+    private String getTestLogName(ITestResult result) {
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    /**
+     * Release pooled browsers and log run statistics after all tests
+     * The report listener flushes the report and closes the logger afterwards
      */
     @AfterSuite
     public void teardownSuite() {
-        if (extentReports != null) {
-            extentReports.flush();
-        }
-        LoggerUtils.closeLogger();
+        DriverManager.shutdown();
+        ScreenshotUtils.shutdown();
+        LoggerUtils.info(ScreenshotUtils.getStatsSummary());
+        LoggerUtils.info(ScreencastRecorder.getStatsSummary());
+        CommandTracer.writeTrace();
+        LoggerUtils.info(CommandTracer.getStatsSummary());
+        LocatorProfiler.writeReport();
+        LoggerUtils.info(LocatorProfiler.getStatsSummary());
+        LocatorTimeouts.saveHistory();
+        LoggerUtils.info(LocatorTimeouts.getStatsSummary());
+        TransactionTimer.export();
+        PagePerformance.writeReport();
+        PerformanceBudget.finishSuite();
+        LoggerUtils.info(PerformanceBudget.getStatsSummary());
+        NetworkRecorder.writeReport();
+        LoggerUtils.info(NetworkRecorder.getStatsSummary());
+        ApiCallAnalyzer.writeReport();
+        LoggerUtils.info(ApiCallAnalyzer.getStatsSummary());
+        RuntimeMetrics.writeReport();
+        LoggerUtils.info(RuntimeMetrics.getStatsSummary());
+        LoggerUtils.info(AuthSessionCache.getStatsSummary());
+        LoggerUtils.info(PageNavigator.getStatsSummary());
+        LoggerUtils.info(WaitUtils.getSleepSummary());
+        LoggerUtils.info(WaitUtils.getFastCheckSummary());
+        LoggerUtils.info(LoggerUtils.getBufferSummary());
         LoggerUtils.info("Test suite completed");
     }
 }
-
@@ -70,6 +70,42 @@ public class ConfigReader {
         return Long.parseLong(getProperty("explicit.wait", "20"));
     }
 
+    public static boolean isNetworkIdleWaitEnabled() {
+        return "network-idle".equalsIgnoreCase(getProperty("wait.mode", "network-idle"));
+    }
+
+    public static long getNetworkQuietMillis() {
+        return Long.parseLong(getProperty("wait.network.quiet.ms", "500"));
+    }
+
+    public static boolean isAdaptiveWaitEnabled() {
+        return Boolean.parseBoolean(getProperty("wait.adaptive.enabled", "true"));
+    }
+
+    public static int getAdaptiveWaitMinSamples() {
+        return Integer.parseInt(getProperty("wait.adaptive.min.samples", "5"));
+    }
+
+    public static int getAdaptiveWaitPercentile() {
+        return Integer.parseInt(getProperty("wait.adaptive.percentile", "99"));
+    }
+
+    public static double getAdaptiveWaitMultiplier() {
+        return Double.parseDouble(getProperty("wait.adaptive.multiplier", "3.0"));
+    }
+
+    public static long getAdaptiveWaitFloorMillis() {
+        return Long.parseLong(getProperty("wait.adaptive.floor.ms", "2000"));
+    }
+
+    public static int getAdaptiveWaitHistorySize() {
+        return Integer.parseInt(getProperty("wait.adaptive.history.size", "50"));
+    }
+
+    public static long getFastCheckMillis() {
+        return Long.parseLong(getProperty("wait.fast.check.ms", "2000"));
+    }
+
     public static String getAdminEmail() {
         return getProperty("admin.email");
     }
@@ -78,6 +114,22 @@ public class ConfigReader {
         return getProperty("admin.password");
     }
 
+    public static boolean isAuthCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("auth.cache.enabled", "true"));
+    }
+
+    public static String getAuthLoginPath() {
+        return getProperty("auth.login.path", "/api/auth/login");
+    }
+
+    public static String getAuthValidatePath() {
+        return getProperty("auth.validate.path", "/api/proxy/projects");
+    }
+
+    public static int getAuthValidateIntervalSeconds() {
+        return Integer.parseInt(getProperty("auth.validate.interval.seconds", "60"));
+    }
+
     public static boolean isHeadless() {
         return Boolean.parseBoolean(getProperty("headless", "false"));
     }
@@ -86,8 +138,229 @@ public class ConfigReader {
         return getProperty("screenshot.path", "test-output/screenshots");
     }
 
+    public static String getScreenshotFormat() {
+        return getProperty("screenshot.format", "png").toLowerCase();
+    }
+
+    public static float getScreenshotJpegQuality() {
+        return Float.parseFloat(getProperty("screenshot.jpeg.quality", "0.85"));
+    }
+
+    public static double getScreenshotScale() {
+        return Double.parseDouble(getProperty("screenshot.scale", "1.0"));
+    }
+
+    public static int getScreenshotQueueSize() {
+        return Integer.parseInt(getProperty("screenshot.queue.size", "16"));
+    }
+
+    public static boolean isScreencastEnabled() {
+        return Boolean.parseBoolean(getProperty("screencast.enabled", "false"));
+    }
+
+    public static String getScreencastPath() {
+        return getProperty("screencast.path", "test-output/screencasts");
+    }
+
+    public static int getScreencastFps() {
+        return Integer.parseInt(getProperty("screencast.fps", "4"));
+    }
+
+    public static int getScreencastBufferSeconds() {
+        return Integer.parseInt(getProperty("screencast.buffer.seconds", "15"));
+    }
+
+    public static int getScreencastQuality() {
+        return Integer.parseInt(getProperty("screencast.quality", "50"));
+    }
+
+    public static int getScreencastMaxWidth() {
+        return Integer.parseInt(getProperty("screencast.max.width", "960"));
+    }
+
+    public static int getScreencastMaxHeight() {
+        return Integer.parseInt(getProperty("screencast.max.height", "720"));
+    }
+
+    public static boolean isTraceEnabled() {
+        return Boolean.parseBoolean(getProperty("trace.enabled", "false"));
+    }
+
+    public static long getTraceMaxEvents() {
+        return Long.parseLong(getProperty("trace.max.events", "500000"));
+    }
+
+    public static boolean isNetworkRecordEnabled() {
+        return Boolean.parseBoolean(getProperty("network.record.enabled", "false"));
+    }
+
+    public static String getNetworkHarPath() {
+        return getProperty("network.har.path", "test-output/har");
+    }
+
+    public static int getNetworkReportTop() {
+        return Integer.parseInt(getProperty("network.report.top", "10"));
+    }
+
+    public static boolean isApiAnalyzerEnabled() {
+        return Boolean.parseBoolean(getProperty("api.analyzer.enabled", "true"));
+    }
+
+    public static String getApiPathPrefix() {
+        return getProperty("api.path.prefix", "/api/");
+    }
+
+    public static long getApiDuplicateWindowMillis() {
+        return Long.parseLong(getProperty("api.duplicate.window.ms", "2000"));
+    }
+
+    public static int getApiNPlusOneThreshold() {
+        return Integer.parseInt(getProperty("api.nplusone.threshold", "5"));
+    }
+
+    public static int getApiPayloadMaxKb() {
+        return Integer.parseInt(getProperty("api.payload.max.kb", "256"));
+    }
+
+    public static boolean isRuntimeMetricsEnabled() {
+        return Boolean.parseBoolean(getProperty("runtime.metrics.enabled", "false"));
+    }
+
+    public static boolean isPagePerformanceEnabled() {
+        return Boolean.parseBoolean(getProperty("perf.page.enabled", "true"));
+    }
+
+    public static boolean isPerformanceBudgetEnabled() {
+        return Boolean.parseBoolean(getProperty("perf.budget.enabled", "true"));
+    }
+
+    public static String getPerformanceBudgetFile() {
+        return getProperty("perf.budget.file", "src/main/resources/config/perf-budgets.json");
+    }
+
+    public static String getPerformanceBudgetMode() {
+        return getProperty("perf.budget.mode", "warn");
+    }
+
+    public static boolean isPerformanceBaselineEnabled() {
+        return Boolean.parseBoolean(getProperty("perf.baseline.enabled", "true"));
+    }
+
+    public static int getPerformanceBaselineMinSamples() {
+        return Integer.parseInt(getProperty("perf.baseline.min.samples", "3"));
+    }
+
+    public static double getPerformanceBaselineSigma() {
+        return Double.parseDouble(getProperty("perf.baseline.sigma", "3.0"));
+    }
+
+    public static double getPerformanceBaselineTolerance() {
+        return Double.parseDouble(getProperty("perf.baseline.tolerance", "0.5"));
+    }
+
+    public static boolean isLocatorProfileEnabled() {
+        return Boolean.parseBoolean(getProperty("locator.profile.enabled", "false"));
+    }
+
+    public static int getLocatorProfileSamples() {
+        return Integer.parseInt(getProperty("locator.profile.samples", "3"));
+    }
+
+    public static int[] getLocatorBenchmarkSizes() {
+        String[] values = getProperty("locator.benchmark.sizes", "100,1000,5000").split(",");
+        int[] sizes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            sizes[i] = Integer.parseInt(values[i].trim());
+        }
+        return sizes;
+    }
+
+    public static int getLocatorBenchmarkRepetitions() {
+        return Integer.parseInt(getProperty("locator.benchmark.repetitions", "5"));
+    }
+
+    public static int getSoakIterations() {
+        return Integer.parseInt(getProperty("soak.iterations", "50"));
+    }
+
+    public static long getSoakDurationMinutes() {
+        return Long.parseLong(getProperty("soak.duration.minutes", "0"));
+    }
+
+    public static String[] getSoakJourneys() {
+        String[] journeys = getProperty("soak.journeys", "navigation,attendanceFilters").split(",");
+        for (int i = 0; i < journeys.length; i++) {
+            journeys[i] = journeys[i].trim();
+        }
+        return journeys;
+    }
+
+    public static int getSoakWarmupCycles() {
+        return Integer.parseInt(getProperty("soak.warmup.cycles", "3"));
+    }
+
+    public static double getSoakLeakHeapKbPerCycle() {
+        return Double.parseDouble(getProperty("soak.leak.heap.kb.per.cycle", "50"));
+    }
+
+    public static double getSoakLeakNodesPerCycle() {
+        return Double.parseDouble(getProperty("soak.leak.nodes.per.cycle", "20"));
+    }
+
+    public static double getSoakLeakMinRSquared() {
+        return Double.parseDouble(getProperty("soak.leak.min.r2", "0.6"));
+    }
+
+    public static boolean isSoakHeapSnapshotEnabled() {
+        return Boolean.parseBoolean(getProperty("soak.heap.snapshot", "false"));
+    }
+
     public static String getLogPath() {
         return getProperty("log.path", "test-output/logs");
     }
+
+    public static boolean isTestLogBufferEnabled() {
+        return Boolean.parseBoolean(getProperty("log.test.buffer.enabled", "true"));
+    }
+
+    public static int getTestLogBufferLines() {
+        return Integer.parseInt(getProperty("log.test.buffer.lines", "2000"));
+    }
+
+    public static int getReportFlushIntervalSeconds() {
+        return Integer.parseInt(getProperty("report.flush.interval.seconds", "10"));
+    }
+
+    public static int getReportHtmlMaxTests() {
+        return Integer.parseInt(getProperty("report.html.max.tests", "5000"));
+    }
+
+    public static String getCacheDir() {
+        return getProperty("cache.dir", ".selenium-cache");
+    }
+
+    public static String getDriverMode() {
+        return getProperty("driver.mode", "fresh").toLowerCase();
+    }
+
+    public static int getDriverPoolSize() {
+        return Integer.parseInt(getProperty("driver.pool.size", "4"));
+    }
+
+    public static int getDriverPoolMaxLeases() {
+        return Integer.parseInt(getProperty("driver.pool.max.leases", "25"));
+    }
+
+    public static int getDriverPoolPrelaunch() {
+        return Integer.parseInt(getProperty("driver.pool.prelaunch", "1"));
+    }
+
+    public static int getDriverPoolWarmup() {
+        return Integer.parseInt(getProperty("driver.pool.warmup", "3"));
+    }
+
+    public static long getDriverPoolLeaseTimeout() {
+        return Long.parseLong(getProperty("driver.pool.lease.timeout", "120"));
+    }
 }
 
@@ -0,0 +1,52 @@
+package com.attendance.listeners;
+
+import com.attendance.utils.ExtentReportManager;
+import com.attendance.utils.LoggerUtils;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener driving the Extent report
+ * Creates the report at suite start, records every test outcome on the
+ * test's own thread and drains the reporter at suite end
+ */
+public class ExtentReportListener implements ISuiteListener, ITestListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        ExtentReportManager.start();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ExtentReportManager.stop();
+        LoggerUtils.closeLogger();
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ExtentReportManager.startTest(result);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        ExtentReportManager.finishTest(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        ExtentReportManager.finishTest(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        ExtentReportManager.finishTest(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        ExtentReportManager.finishTest(result);
+    }
+}
@@ -0,0 +1,21 @@
+package com.attendance.listeners;
+
+import com.attendance.utils.PerformanceBudget;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener checking performance budgets right after each test method
+ * Runs before the test outcome is reported, so a budget failure in fail mode
+ * shows up as a failed test in TestNG, Extent and the teardown
+ */
+public class PerformanceBudgetListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            PerformanceBudget.checkTest(testResult);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.attendance.pages;
 
+import com.attendance.config.ConfigReader;
+import com.attendance.utils.DomSnapshotUtils;
+import com.attendance.utils.LoggerUtils;
+import com.attendance.utils.TransactionTimer;
 import com.attendance.utils.WaitUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,6 +17,7 @@ import java.util.List;
  * Contains all locators and methods for attendance management
  */
 public class AttendancePage {
+    private static final long SEARCH_SETTLE_MILLIS = 300;
     private WebDriver driver;
 
     // Locators
@@ -33,11 +39,23 @@ public class AttendancePage {
     private By checkInTimeInput = By.xpath("//label[contains(text(), 'Check In Time')]/following-sibling::input[@type='datetime-local']");
     private By checkOutTimeInput = By.xpath("//label[contains(text(), 'Check Out Time')]/following-sibling::input[@type='datetime-local']");
     private By submitAttendanceButton = By.xpath("//button[contains(text(), 'Add Attendance')] | //button[@type='submit']");
+    private By formError = By.xpath("//form//div[contains(@class, 'bg-red-50')]");
 
     public AttendancePage(WebDriver driver) {
         this.driver = driver;
     }
 
+    /**
+     * Open the attendance page directly as an authenticated admin
+     * @param driver WebDriver instance
+     * @return Page object for the opened page
+     */
+    public static AttendancePage open(WebDriver driver) {
+        AttendancePage page = new AttendancePage(driver);
+        PageNavigator.openAuthenticated(driver, "/attendance", "AttendancePage", page::isAttendancePageDisplayed);
+        return page;
+    }
+
     /**
      * Check if attendance page is displayed
      * @return true if page is displayed
@@ -66,7 +84,8 @@ public class AttendancePage {
         WebElement searchField = WaitUtils.waitForElementVisible(driver, searchInput);
         searchField.clear();
         searchField.sendKeys(searchText);
-        WaitUtils.wait(1);
+        // Wait for the table row count to settle
+        WaitUtils.waitForCountSettled(driver, tableRows, SEARCH_SETTLE_MILLIS, ConfigReader.getExplicitWait() * 1000);
     }
 
     /**
@@ -74,11 +93,12 @@ public class AttendancePage {
      * @param status Status filter (all, checked-in, checked-out)
      */
     public void filterByStatus(String status) {
-        try {
+        try (TransactionTimer.Transaction transaction = TransactionTimer.start("filterAttendanceByStatus")) {
             WebElement statusSelect = WaitUtils.waitForElementClickable(driver, statusFilter);
             org.openqa.selenium.support.ui.Select select = new org.openqa.selenium.support.ui.Select(statusSelect);
             select.selectByVisibleText(status);
             WaitUtils.wait(1);
+            transaction.complete();
         } catch (Exception e) {
             throw new RuntimeException("Failed to filter by status: " + status, e);
         }
@@ -104,12 +124,26 @@ public class AttendancePage {
      * @return Number of records
      */
     public int getAttendanceRecordCount() {
-        try {
-            List<WebElement> rows = WaitUtils.waitForAllElementsVisible(driver, tableRows);
-            return rows.size();
-        } catch (Exception e) {
-            return 0;
+        return getAttendanceRows().size();
+    }
+
+    /**
+     * Read every attendance table row in a single script call
+     * @return Attendance rows in table order, empty if the table has no rows
+     */
+    public List<AttendanceRow> getAttendanceRows() {
+        List<AttendanceRow> rows = new ArrayList<>();
+        if (!WaitUtils.isVisibleWithin(driver, tableRows)) {
+            return rows;
+        }
+        DomSnapshotUtils.TableSnapshot table = DomSnapshotUtils.readTable(driver, tableRows);
+        for (int i = 0; i < table.getRowCount(); i++) {
+            String[] staff = table.getCell(i, "Staff").split("\n", 2);
+            rows.add(new AttendanceRow(staff[0], staff.length > 1 ? staff[1] : "",
+                    table.getCell(i, "Check In"), table.getCell(i, "Check Out"),
+                    table.getCell(i, "Hours"), table.getCell(i, "Status")));
         }
+        return rows;
     }
 
     /**
@@ -158,30 +192,38 @@ public class AttendancePage {
      * @param checkOutTime Check out time (optional)
      */
     public void addManualAttendance(String workerName, String checkInTime, String checkOutTime) {
-        clickAddManual();
-        WaitUtils.wait(2);
-        
-        // Select worker
-        WebElement workerSelectElement = WaitUtils.waitForElementClickable(driver, workerSelect);
-        org.openqa.selenium.support.ui.Select workerSelectDropdown = new org.openqa.selenium.support.ui.Select(workerSelectElement);
-        workerSelectDropdown.selectByVisibleText(workerName);
-        
-        // Enter check in time
-        WebElement checkInField = WaitUtils.waitForElementVisible(driver, checkInTimeInput);
-        checkInField.clear();
-        checkInField.sendKeys(checkInTime);
-        
-        // Enter check out time if provided
-        if (checkOutTime != null && !checkOutTime.isEmpty()) {
-            WebElement checkOutField = WaitUtils.waitForElementVisible(driver, checkOutTimeInput);
-            checkOutField.clear();
-            checkOutField.sendKeys(checkOutTime);
-        }
-        
-        // Submit
-        WebElement submitBtn = WaitUtils.waitForElementClickable(driver, submitAttendanceButton);
-        submitBtn.click();
-        WaitUtils.wait(2);
+        try (TransactionTimer.Transaction transaction = TransactionTimer.start("addManualAttendance")) {
+            clickAddManual();
+            WaitUtils.wait(2);
+
+            // Select worker
+            WebElement workerSelectElement = WaitUtils.waitForElementClickable(driver, workerSelect);
+            org.openqa.selenium.support.ui.Select workerSelectDropdown = new org.openqa.selenium.support.ui.Select(workerSelectElement);
+            workerSelectDropdown.selectByVisibleText(workerName);
+
+            // Enter check in time
+            WebElement checkInField = WaitUtils.waitForElementVisible(driver, checkInTimeInput);
+            checkInField.clear();
+            checkInField.sendKeys(checkInTime);
+
+            // Enter check out time if provided
+            if (checkOutTime != null && !checkOutTime.isEmpty()) {
+                WebElement checkOutField = WaitUtils.waitForElementVisible(driver, checkOutTimeInput);
+                checkOutField.clear();
+                checkOutField.sendKeys(checkOutTime);
+            }
+
+            // Submit
+            WebElement submitBtn = WaitUtils.waitForElementClickable(driver, submitAttendanceButton);
+            submitBtn.click();
+            // The modal only closes once the record was created; the table then refetches
+            if (!WaitUtils.waitForFormClosed(driver, checkInTimeInput, formError, ConfigReader.getExplicitWait() * 1000)) {
+                LoggerUtils.warn("Attendance form did not close after adding a record for: " + workerName);
+                return;
+            }
+            WaitUtils.waitForNetworkIdle(driver);
+            transaction.complete();
+        }
     }
 
     /**
@@ -195,5 +237,53 @@ public class AttendancePage {
             return false;
         }
     }
-}
 
+    /**
+     * One row of the attendance table
+     */
+    public static class AttendanceRow {
+        private final String staff;
+        private final String project;
+        private final String checkIn;
+        private final String checkOut;
+        private final String hours;
+        private final String status;
+
+        AttendanceRow(String staff, String project, String checkIn, String checkOut, String hours, String status) {
+            this.staff = staff;
+            this.project = project;
+            this.checkIn = checkIn;
+            this.checkOut = checkOut;
+            this.hours = hours;
+            this.status = status;
+        }
+
+        public String getStaff() {
+            return staff;
+        }
+
+        public String getProject() {
+            return project;
+        }
+
+        public String getCheckIn() {
+            return checkIn;
+        }
+
+        public String getCheckOut() {
+            return checkOut;
+        }
+
+        public String getHours() {
+            return hours;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public boolean isCheckedOut() {
+            return !checkOut.isEmpty() && !"-".equals(checkOut);
+        }
+    }
+}
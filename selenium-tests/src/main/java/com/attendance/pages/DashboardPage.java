@@ -30,6 +30,17 @@ public class DashboardPage {
         this.driver = driver;
     }
 
+    /**
+     * Open the dashboard directly as an authenticated admin
+     * @param driver WebDriver instance
+     * @return Page object for the opened page
+     */
+    public static DashboardPage open(WebDriver driver) {
+        DashboardPage page = new DashboardPage(driver);
+        PageNavigator.openAuthenticated(driver, "/dashboard", "DashboardPage", page::isDashboardDisplayed);
+        return page;
+    }
+
     /**
      * Check if dashboard is displayed
      * @return true if dashboard is displayed
@@ -1,5 +1,6 @@
 package com.attendance.pages;
 
+import com.attendance.utils.TransactionTimer;
 import com.attendance.utils.WaitUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -54,10 +55,26 @@ public class LoginPage {
 
     /**
      * Perform login with credentials
+     * The login transaction only succeeds once the app has left /login
      * @param email Email address
      * @param password Password
      */
     public void login(String email, String password) {
+        try (TransactionTimer.Transaction transaction = TransactionTimer.start("login")) {
+            submitCredentials(email, password);
+            if (WaitUtils.waitForUrlToLeave(driver, "/login", errorMessage)) {
+                transaction.complete();
+            }
+        }
+    }
+
+    /**
+     * Fill in and submit the login form without timing a login transaction
+     * Use for credentials that are expected to be rejected
+     * @param email Email address
+     * @param password Password
+     */
+    public void submitCredentials(String email, String password) {
         enterEmail(email);
         enterPassword(password);
         clickSignIn();
@@ -68,12 +85,10 @@ public class LoginPage {
      * @return Error message
      */
     public String getErrorMessage() {
-        try {
-            WebElement errorElement = WaitUtils.waitForElementVisible(driver, errorMessage);
-            return errorElement.getText();
-        } catch (Exception e) {
+        if (!WaitUtils.isVisibleWithin(driver, errorMessage)) {
             return "";
         }
+        return driver.findElement(errorMessage).getText();
     }
 
     /**
@@ -81,11 +96,7 @@ public class LoginPage {
      * @return true if error message is displayed
      */
     public boolean isErrorMessageDisplayed() {
-        try {
-            return WaitUtils.waitForElementVisible(driver, errorMessage).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return WaitUtils.isVisibleWithin(driver, errorMessage);
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.attendance.pages;
+
+import com.attendance.config.ConfigReader;
+import com.attendance.utils.AuthSessionCache;
+import com.attendance.utils.PagePerformance;
+import com.attendance.utils.RuntimeMetrics;
+import com.attendance.utils.WaitUtils;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Opens portal routes directly with an authenticated admin session
+ * Backs the page objects' static open methods so tests no longer go through
+ * the dashboard and sidebar links to reach a page
+ */
+public class PageNavigator {
+    private static final String DASHBOARD_ROUTE = "/dashboard";
+
+    // Statistics
+    private static final AtomicLong directOpens = new AtomicLong();
+    private static final AtomicLong formLogins = new AtomicLong();
+    private static final AtomicLong dashboardRendersAvoided = new AtomicLong();
+
+    /**
+     * Open a page object's route as admin and instrument the page load
+     * Captures the page's performance data once it is ready, when enabled, and
+     * samples runtime metrics
+     * @param driver WebDriver instance
+     * @param route Route relative to base URL, e.g. /workers
+     * @param pageName Page object name used in reports, e.g. WorkerPage
+     * @param readyCheck Waits until the page is displayed, e.g. page::isWorkerPageDisplayed
+     * @return true if the cached session was used
+     */
+    public static boolean openAuthenticated(WebDriver driver, String route, String pageName,
+                                            BooleanSupplier readyCheck) {
+        boolean restored = openAuthenticated(driver, route);
+        if (PagePerformance.isEnabled()) {
+            readyCheck.getAsBoolean();
+            PagePerformance.capture(driver, pageName);
+        }
+        RuntimeMetrics.sample("open " + pageName);
+        return restored;
+    }
+
+    /**
+     * Navigate straight to a route as admin
+     * Restores the cached session when enabled, otherwise logs in through the form
+     * once and then loads the route
+     * @param driver WebDriver instance
+     * @param route Route relative to base URL, e.g. /workers
+     * @return true if the cached session was used
+     */
+    public static boolean openAuthenticated(WebDriver driver, String route) {
+        directOpens.incrementAndGet();
+        if (ConfigReader.isAuthCacheEnabled() && AuthSessionCache.restore(driver, route)) {
+            recordAvoidedDashboard(route);
+            return true;
+        }
+
+        String url = ConfigReader.getBaseUrl() + route;
+        driver.get(url);
+        if (driver.getCurrentUrl().contains("/login")) {
+            // The login form always lands on the dashboard first
+            formLogins.incrementAndGet();
+            new LoginPage(driver).login(ConfigReader.getAdminEmail(), ConfigReader.getAdminPassword());
+            WaitUtils.waitForUrlContains(driver, DASHBOARD_ROUTE);
+            if (ConfigReader.isAuthCacheEnabled()) {
+                AuthSessionCache.capture(driver);
+            }
+            if (!DASHBOARD_ROUTE.equals(route)) {
+                driver.get(url);
+            }
+        } else {
+            recordAvoidedDashboard(route);
+        }
+        return false;
+    }
+
+    /**
+     * Get navigation statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("Page navigation: directOpens=%d, formLogins=%d, dashboardRendersAvoided=%d",
+                directOpens.get(), formLogins.get(), dashboardRendersAvoided.get());
+    }
+
+    private static void recordAvoidedDashboard(String route) {
+        if (!DASHBOARD_ROUTE.equals(route)) {
+            dashboardRendersAvoided.incrementAndGet();
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package com.attendance.pages;
 
+import com.attendance.config.ConfigReader;
+import com.attendance.utils.DomSnapshotUtils;
+import com.attendance.utils.LoggerUtils;
+import com.attendance.utils.TransactionTimer;
 import com.attendance.utils.WaitUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object Model for Project Management Page
  * Contains all locators and methods for project management
  */
 public class ProjectPage {
+    private static final long SEARCH_SETTLE_MILLIS = 300;
     private WebDriver driver;
 
     // Locators
@@ -29,6 +36,7 @@ public class ProjectPage {
     private By budgetInput = By.xpath("//label[contains(text(), 'Budget')]/following-sibling::input[@type='number']");
     private By submitProjectButton = By.xpath("//button[contains(text(), 'Add Project')] | //button[@type='submit']");
     private By cancelButton = By.xpath("//button[contains(text(), 'Cancel')]");
+    private By formError = By.xpath("//form//div[contains(@class, 'bg-red-50')]");
     
     // Filter locators
     private By statusFilter = By.xpath("//select[contains(@class, 'border-gray-300')]");
@@ -38,6 +46,17 @@ public class ProjectPage {
         this.driver = driver;
     }
 
+    /**
+     * Open the project management page directly as an authenticated admin
+     * @param driver WebDriver instance
+     * @return Page object for the opened page
+     */
+    public static ProjectPage open(WebDriver driver) {
+        ProjectPage page = new ProjectPage(driver);
+        PageNavigator.openAuthenticated(driver, "/projects", "ProjectPage", page::isProjectPageDisplayed);
+        return page;
+    }
+
     /**
      * Check if project page is displayed
      * @return true if page is displayed
@@ -136,22 +155,32 @@ public class ProjectPage {
      * @param budget Budget
      */
     public void addProject(String name, String description, String location, String startDate, String endDate, String budget) {
-        clickAddProject();
-        WaitUtils.wait(2);
-        enterProjectName(name);
-        enterDescription(description);
-        enterLocation(location);
-        if (startDate != null && !startDate.isEmpty()) {
-            enterStartDate(startDate);
-        }
-        if (endDate != null && !endDate.isEmpty()) {
-            enterEndDate(endDate);
-        }
-        if (budget != null && !budget.isEmpty()) {
-            enterBudget(budget);
+        try (TransactionTimer.Transaction transaction = TransactionTimer.start("addProject")) {
+            clickAddProject();
+            WaitUtils.wait(2);
+            enterProjectName(name);
+            enterDescription(description);
+            enterLocation(location);
+            if (startDate != null && !startDate.isEmpty()) {
+                enterStartDate(startDate);
+            }
+            if (endDate != null && !endDate.isEmpty()) {
+                enterEndDate(endDate);
+            }
+            if (budget != null && !budget.isEmpty()) {
+                enterBudget(budget);
+            }
+            int cardCount = WaitUtils.countMatchesInPage(driver, projectCards);
+            submitProjectForm();
+            // The modal only closes once the project was created; the list then refetches
+            if (!WaitUtils.waitForFormClosed(driver, projectNameInput, formError, ConfigReader.getExplicitWait() * 1000)) {
+                LoggerUtils.warn("Project form did not close after adding project: " + name);
+                return;
+            }
+            WaitUtils.waitForCountRefreshed(driver, projectCards, cardCount, SEARCH_SETTLE_MILLIS,
+                    ConfigReader.getExplicitWait() * 1000);
+            transaction.complete();
         }
-        submitProjectForm();
-        WaitUtils.wait(2);
     }
 
     /**
@@ -162,7 +191,7 @@ public class ProjectPage {
         WebElement searchField = WaitUtils.waitForElementVisible(driver, searchInput);
         searchField.clear();
         searchField.sendKeys(searchText);
-        WaitUtils.wait(1);
+        WaitUtils.waitForCountSettled(driver, projectCards, SEARCH_SETTLE_MILLIS, ConfigReader.getExplicitWait() * 1000);
     }
 
     /**
@@ -170,12 +199,36 @@ public class ProjectPage {
      * @return Number of project cards
      */
     public int getProjectCount() {
-        try {
-            List<WebElement> projectCardsList = WaitUtils.waitForAllElementsVisible(driver, projectCards);
-            return projectCardsList.size();
-        } catch (Exception e) {
-            return 0;
+        return getProjectCards().size();
+    }
+
+    /**
+     * Read every project card in a single script call
+     * @return Project cards in grid order, empty if there are none
+     */
+    public List<ProjectCard> getProjectCards() {
+        List<ProjectCard> cards = new ArrayList<>();
+        if (!WaitUtils.isVisibleWithin(driver, projectCards)) {
+            return cards;
         }
+        for (Map<String, Object> card : DomSnapshotUtils.readCards(driver, projectCards)) {
+            String location = "";
+            String dates = "";
+            String budget = "";
+            for (String detail : DomSnapshotUtils.getCardDetails(card)) {
+                if (detail.startsWith("Budget:")) {
+                    budget = detail.substring("Budget:".length()).trim();
+                } else if (detail.contains(" - ")) {
+                    dates = detail;
+                } else {
+                    location = detail;
+                }
+            }
+            cards.add(new ProjectCard(DomSnapshotUtils.getCardText(card, "title"),
+                    DomSnapshotUtils.getCardText(card, "badge"), DomSnapshotUtils.getCardText(card, "description"),
+                    location, dates, budget));
+        }
+        return cards;
     }
 
     /**
@@ -184,12 +237,8 @@ public class ProjectPage {
      * @return true if project exists
      */
     public boolean isProjectPresent(String projectName) {
-        try {
-            By projectNameLocator = By.xpath("//div[contains(text(), '" + projectName + "')]");
-            return WaitUtils.waitForElementVisible(driver, projectNameLocator).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        By projectNameLocator = By.xpath("//div[contains(text(), '" + projectName + "')]");
+        return WaitUtils.isVisibleWithin(driver, projectNameLocator);
     }
 
     /**
@@ -208,5 +257,49 @@ public class ProjectPage {
             throw new RuntimeException("Failed to filter by status: " + status, e);
         }
     }
-}
 
+    /**
+     * One card of the project grid
+     */
+    public static class ProjectCard {
+        private final String name;
+        private final String status;
+        private final String description;
+        private final String location;
+        private final String dates;
+        private final String budget;
+
+        ProjectCard(String name, String status, String description, String location, String dates, String budget) {
+            this.name = name;
+            this.status = status;
+            this.description = description;
+            this.location = location;
+            this.dates = dates;
+            this.budget = budget;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public String getDates() {
+            return dates;
+        }
+
+        public String getBudget() {
+            return budget;
+        }
+    }
+}
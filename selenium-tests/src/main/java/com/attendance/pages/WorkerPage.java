@@ -1,18 +1,25 @@
 package com.attendance.pages;
 
+import com.attendance.config.ConfigReader;
+import com.attendance.utils.DomSnapshotUtils;
+import com.attendance.utils.LoggerUtils;
+import com.attendance.utils.TransactionTimer;
 import com.attendance.utils.WaitUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object Model for Worker/Employee Management Page
  * Contains all locators and methods for worker management
  */
 public class WorkerPage {
+    private static final long SEARCH_SETTLE_MILLIS = 300;
     private WebDriver driver;
 
     // Locators
@@ -40,6 +47,17 @@ public class WorkerPage {
         this.driver = driver;
     }
 
+    /**
+     * Open the worker management page directly as an authenticated admin
+     * @param driver WebDriver instance
+     * @return Page object for the opened page
+     */
+    public static WorkerPage open(WebDriver driver) {
+        WorkerPage page = new WorkerPage(driver);
+        PageNavigator.openAuthenticated(driver, "/workers", "WorkerPage", page::isWorkerPageDisplayed);
+        return page;
+    }
+
     /**
      * Check if worker page is displayed
      * @return true if page is displayed
@@ -116,14 +134,24 @@ public class WorkerPage {
      * @param department Worker department
      */
     public void addWorker(String name, String email, String phone, String department) {
-        clickAddWorker();
-        WaitUtils.wait(2); // Wait for modal to open
-        enterWorkerName(name);
-        enterWorkerEmail(email);
-        enterWorkerPhone(phone);
-        enterWorkerDepartment(department);
-        submitWorkerForm();
-        WaitUtils.wait(2); // Wait for form submission
+        try (TransactionTimer.Transaction transaction = TransactionTimer.start("addWorker")) {
+            clickAddWorker();
+            WaitUtils.wait(2); // Wait for modal to open
+            enterWorkerName(name);
+            enterWorkerEmail(email);
+            enterWorkerPhone(phone);
+            enterWorkerDepartment(department);
+            int cardCount = WaitUtils.countMatchesInPage(driver, workerCards);
+            submitWorkerForm();
+            // The grid is replaced by a loading state while it refetches, then shows the new worker
+            int newCount = WaitUtils.waitForCountRefreshed(driver, workerCards, cardCount, SEARCH_SETTLE_MILLIS,
+                    ConfigReader.getExplicitWait() * 1000);
+            if (newCount == cardCount) {
+                LoggerUtils.warn("Worker grid did not refresh after adding worker: " + name);
+                return;
+            }
+            transaction.complete();
+        }
     }
 
     /**
@@ -134,7 +162,7 @@ public class WorkerPage {
         WebElement searchField = WaitUtils.waitForElementVisible(driver, searchInput);
         searchField.clear();
         searchField.sendKeys(searchText);
-        WaitUtils.wait(1); // Wait for search results
+        WaitUtils.waitForCountSettled(driver, workerCards, SEARCH_SETTLE_MILLIS, ConfigReader.getExplicitWait() * 1000);
     }
 
     /**
@@ -142,12 +170,33 @@ public class WorkerPage {
      * @return Number of worker cards
      */
     public int getWorkerCount() {
-        try {
-            List<WebElement> workerCardsList = WaitUtils.waitForAllElementsVisible(driver, workerCards);
-            return workerCardsList.size();
-        } catch (Exception e) {
-            return 0;
+        return getWorkerCards().size();
+    }
+
+    /**
+     * Read every worker card in a single script call
+     * @return Worker cards in grid order, empty if there are none
+     */
+    public List<WorkerCard> getWorkerCards() {
+        List<WorkerCard> cards = new ArrayList<>();
+        if (!WaitUtils.isVisibleWithin(driver, workerCards)) {
+            return cards;
         }
+        for (Map<String, Object> card : DomSnapshotUtils.readCards(driver, workerCards)) {
+            String email = "";
+            String phone = "";
+            for (String detail : DomSnapshotUtils.getCardDetails(card)) {
+                if (detail.contains("@")) {
+                    email = detail;
+                } else {
+                    phone = detail;
+                }
+            }
+            cards.add(new WorkerCard(DomSnapshotUtils.getCardText(card, "title"),
+                    DomSnapshotUtils.getCardText(card, "badge"), DomSnapshotUtils.getCardText(card, "tag"),
+                    email, phone));
+        }
+        return cards;
     }
 
     /**
@@ -156,12 +205,8 @@ public class WorkerPage {
      * @return true if worker exists
      */
     public boolean isWorkerPresent(String workerName) {
-        try {
-            By workerNameLocator = By.xpath("//div[contains(text(), '" + workerName + "')]");
-            return WaitUtils.waitForElementVisible(driver, workerNameLocator).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        By workerNameLocator = By.xpath("//div[contains(text(), '" + workerName + "')]");
+        return WaitUtils.isVisibleWithin(driver, workerNameLocator);
     }
 
     /**
@@ -196,5 +241,43 @@ public class WorkerPage {
             // Modal might already be closed
         }
     }
-}
 
+    /**
+     * One card of the worker grid
+     */
+    public static class WorkerCard {
+        private final String name;
+        private final String roleTag;
+        private final String role;
+        private final String email;
+        private final String phone;
+
+        WorkerCard(String name, String roleTag, String role, String email, String phone) {
+            this.name = name;
+            this.roleTag = roleTag;
+            this.role = role;
+            this.email = email;
+            this.phone = phone;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getRoleTag() {
+            return roleTag;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPhone() {
+            return phone;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds wasteful API usage in the requests recorded for a test
+ * Flags identical calls repeated within a short window, N+1 patterns (a list
+ * call followed by many per-id calls of the same resource) and oversized JSON
+ * responses. Findings are attributed to the route of the page that made the
+ * call, listed on the Extent test and summed up over the run. Needs
+ * network.record.enabled
+ */
+public class ApiCallAnalyzer {
+    private static final String ID_SUFFIX = "/:id";
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Map<String, RunTotal> runTotals = new ConcurrentHashMap<>();
+
+    // Statistics
+    private static final AtomicLong analyzedTests = new AtomicLong();
+    private static final AtomicLong totalFindings = new AtomicLong();
+    private static final AtomicLong totalWastedBytes = new AtomicLong();
+
+    /**
+     * Analyze the API calls of one test and add the findings to its report
+     * @param requests Recorded requests in start order, see NetworkRecorder.stop
+     * @return Findings, empty if the test made no wasteful calls
+     */
+    public static List<Finding> analyze(List<NetworkRecorder.Entry> requests) {
+        List<NetworkRecorder.Entry> apiCalls = new ArrayList<>();
+        for (NetworkRecorder.Entry request : requests) {
+            if (isApiCall(request)) {
+                apiCalls.add(request);
+            }
+        }
+        if (!ConfigReader.isApiAnalyzerEnabled() || apiCalls.isEmpty()) {
+            return new ArrayList<>();
+        }
+        analyzedTests.incrementAndGet();
+
+        List<Finding> findings = new ArrayList<>();
+        findDuplicates(apiCalls, findings);
+        findNPlusOne(apiCalls, findings);
+        findOversized(apiCalls, findings);
+        for (Finding finding : findings) {
+            totalFindings.incrementAndGet();
+            totalWastedBytes.addAndGet(finding.wastedBytes);
+            runTotals.computeIfAbsent(finding.type + " " + finding.endpoint, key -> new RunTotal(finding))
+                    .add(finding);
+        }
+        report(findings);
+        return findings;
+    }
+
+    /**
+     * Write the findings summed over the run to api_findings_&lt;runId&gt;.json
+     * @return Report path, or null if nothing was found
+     */
+    public static String writeReport() {
+        if (runTotals.isEmpty()) {
+            return null;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (RunTotal total : runTotals.values()) {
+            rows.add(total.toMap());
+        }
+        rows.sort(Comparator.comparingLong(row -> -((Number) row.get("wastedBytes")).longValue()));
+        for (Map<String, Object> row : rows) {
+            LoggerUtils.info("API finding " + row);
+        }
+        File file = new File(ExtentReportManager.getReportDir(), "api_findings_" + ExtentReportManager.getRunId() + ".json");
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, rows);
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write API findings: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get API analysis statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("API analysis: tests=%d, findings=%d, wastedKb=%d, distinct=%d",
+                analyzedTests.get(), totalFindings.get(), totalWastedBytes.get() / 1024, runTotals.size());
+    }
+
+    /**
+     * Calls under the API path prefix; RSC and other page fetches outside it are not API calls.
+     * Within the prefix, only script-initiated requests count when DevTools reports a type
+     */
+    private static boolean isApiCall(NetworkRecorder.Entry request) {
+        String endpoint = request.getEndpoint();
+        String path = endpoint.substring(endpoint.indexOf(' ') + 1);
+        if (!path.startsWith(ConfigReader.getApiPathPrefix())) {
+            return false;
+        }
+        String type = request.getResourceType();
+        return type == null || type.isEmpty() || "XHR".equals(type) || "Fetch".equals(type);
+    }
+
+    /**
+     * Identical calls (method, URL and body) started within the window of the previous one
+     */
+    private static void findDuplicates(List<NetworkRecorder.Entry> apiCalls, List<Finding> findings) {
+        long windowMillis = ConfigReader.getApiDuplicateWindowMillis();
+        Map<String, List<NetworkRecorder.Entry>> byRequest = new LinkedHashMap<>();
+        for (NetworkRecorder.Entry call : apiCalls) {
+            byRequest.computeIfAbsent(call.getRequestKey(), key -> new ArrayList<>()).add(call);
+        }
+        for (List<NetworkRecorder.Entry> calls : byRequest.values()) {
+            int duplicates = 0;
+            long wastedBytes = 0;
+            Set<String> routes = new LinkedHashSet<>();
+            for (int i = 1; i < calls.size(); i++) {
+                if (calls.get(i).getStartedMillis() - calls.get(i - 1).getStartedMillis() <= windowMillis) {
+                    duplicates++;
+                    wastedBytes += calls.get(i).getResponseBytes();
+                    routes.add(calls.get(i).getPageRoute());
+                }
+            }
+            if (duplicates > 0) {
+                NetworkRecorder.Entry call = calls.get(0);
+                findings.add(new Finding("duplicate", String.join(",", routes), call.getEndpoint(), duplicates,
+                        wastedBytes, call.getMethod() + " " + call.getUrl() + " repeated within " + windowMillis + "ms"));
+            }
+        }
+    }
+
+    /**
+     * Per-id GETs of a resource after a GET of its list, e.g. /api/admin/projects then /api/admin/projects/:id
+     */
+    private static void findNPlusOne(List<NetworkRecorder.Entry> apiCalls, List<Finding> findings) {
+        Map<String, Long> listCallMillis = new LinkedHashMap<>();
+        Map<String, List<NetworkRecorder.Entry>> itemCalls = new LinkedHashMap<>();
+        for (NetworkRecorder.Entry call : apiCalls) {
+            if (!"GET".equals(call.getMethod())) {
+                continue;
+            }
+            String endpoint = call.getEndpoint();
+            if (endpoint.endsWith(ID_SUFFIX)) {
+                String listEndpoint = endpoint.substring(0, endpoint.length() - ID_SUFFIX.length());
+                if (listCallMillis.containsKey(listEndpoint)) {
+                    itemCalls.computeIfAbsent(listEndpoint, key -> new ArrayList<>()).add(call);
+                }
+            } else {
+                listCallMillis.putIfAbsent(endpoint, call.getStartedMillis());
+            }
+        }
+        for (Map.Entry<String, List<NetworkRecorder.Entry>> entry : itemCalls.entrySet()) {
+            List<NetworkRecorder.Entry> calls = entry.getValue();
+            Set<String> ids = new LinkedHashSet<>();
+            Set<String> routes = new LinkedHashSet<>();
+            long bytes = 0;
+            for (NetworkRecorder.Entry call : calls) {
+                ids.add(call.getUrl());
+                routes.add(call.getPageRoute());
+                bytes += call.getResponseBytes();
+            }
+            if (ids.size() >= ConfigReader.getApiNPlusOneThreshold()) {
+                findings.add(new Finding("n+1", String.join(",", routes), entry.getKey() + ID_SUFFIX, calls.size(),
+                        bytes, calls.size() + " per-id calls for " + ids.size() + " ids after " + entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * JSON responses above the payload limit; bytes beyond the limit count as wasted
+     */
+    private static void findOversized(List<NetworkRecorder.Entry> apiCalls, List<Finding> findings) {
+        long maxBytes = ConfigReader.getApiPayloadMaxKb() * 1024L;
+        Map<String, List<NetworkRecorder.Entry>> byEndpoint = new LinkedHashMap<>();
+        for (NetworkRecorder.Entry call : apiCalls) {
+            if (call.getMimeType().contains("json") && call.getContentBytes() > maxBytes) {
+                byEndpoint.computeIfAbsent(call.getEndpoint(), key -> new ArrayList<>()).add(call);
+            }
+        }
+        for (Map.Entry<String, List<NetworkRecorder.Entry>> entry : byEndpoint.entrySet()) {
+            long wastedBytes = 0;
+            long largestBytes = 0;
+            Set<String> routes = new LinkedHashSet<>();
+            for (NetworkRecorder.Entry call : entry.getValue()) {
+                wastedBytes += call.getContentBytes() - maxBytes;
+                largestBytes = Math.max(largestBytes, call.getContentBytes());
+                routes.add(call.getPageRoute());
+            }
+            findings.add(new Finding("oversized", String.join(",", routes), entry.getKey(), entry.getValue().size(),
+                    wastedBytes, "largest " + largestBytes / 1024 + "KB, limit " + maxBytes / 1024 + "KB"));
+        }
+    }
+
+    private static void report(List<Finding> findings) {
+        if (findings.isEmpty()) {
+            return;
+        }
+        String[][] table = new String[findings.size() + 1][];
+        table[0] = new String[] {"Finding", "Route", "Endpoint", "Calls", "Wasted KB", "Detail"};
+        for (int i = 0; i < findings.size(); i++) {
+            Finding finding = findings.get(i);
+            table[i + 1] = new String[] {finding.type, finding.route, finding.endpoint, String.valueOf(finding.count),
+                    String.format("%.1f", finding.wastedBytes / 1024.0), finding.detail};
+            LoggerUtils.warn("API " + finding);
+        }
+        ExtentReportManager.getTest().log(Status.WARNING, MarkupHelper.createTable(table));
+    }
+
+    /**
+     * One wasteful call pattern found in a test
+     */
+    public static class Finding {
+        private final String type;
+        private final String route;
+        private final String endpoint;
+        private final int count;
+        private final long wastedBytes;
+        private final String detail;
+
+        Finding(String type, String route, String endpoint, int count, long wastedBytes, String detail) {
+            this.type = type;
+            this.route = route;
+            this.endpoint = endpoint;
+            this.count = count;
+            this.wastedBytes = wastedBytes;
+            this.detail = detail;
+        }
+
+        /**
+         * Get the kind of finding
+         * @return duplicate, n+1 or oversized
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Get the routes of the pages that made the calls
+         * @return Comma separated routes such as /attendance
+         */
+        public String getRoute() {
+            return route;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * Get the number of wasteful calls
+         * @return Repeated, per-id or oversized calls
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Get the bytes that a better call pattern would not have transferred
+         * @return Response bytes of repeated or per-id calls, or JSON bytes beyond the limit
+         */
+        public long getWastedBytes() {
+            return wastedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s on %s: calls=%d, wasted=%.1fKB, %s", type, endpoint, route, count,
+                    wastedBytes / 1024.0, detail);
+        }
+    }
+
+    /**
+     * One finding summed over all tests of the run
+     */
+    private static class RunTotal {
+        private final String type;
+        private final String endpoint;
+        private final Set<String> routes = new LinkedHashSet<>();
+        private long tests;
+        private long calls;
+        private long wastedBytes;
+
+        RunTotal(Finding finding) {
+            this.type = finding.type;
+            this.endpoint = finding.endpoint;
+        }
+
+        synchronized void add(Finding finding) {
+            tests++;
+            calls += finding.count;
+            wastedBytes += finding.wastedBytes;
+            routes.add(finding.route);
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("type", type);
+            row.put("endpoint", endpoint);
+            row.put("routes", new ArrayList<>(routes));
+            row.put("tests", tests);
+            row.put("calls", calls);
+            row.put("wastedBytes", wastedBytes);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches an authenticated admin session and injects it into new browser sessions
+ * The session is minted once per suite through the login API (or captured from
+ * one UI login) and refreshed automatically when the token expires. The portal
+ * middleware only checks that the auth cookie exists, so a cached token is
+ * also checked against an authenticated API before it is reused
+ */
+public class AuthSessionCache {
+    private static final String AUTH_COOKIE = "auth_token";
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(60);
+    private static final Duration DEFAULT_LIFETIME = Duration.ofHours(1);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static AuthSnapshot snapshot;
+    private static boolean loginApiUnavailable;
+
+    // Statistics
+    private static final AtomicLong mints = new AtomicLong();
+    private static final AtomicLong restores = new AtomicLong();
+    private static final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Inject the cached session and navigate straight to a route
+     * @param driver WebDriver instance
+     * @param route Route relative to base URL, e.g. /dashboard
+     * @return true if the browser landed on the route authenticated
+     */
+    public static boolean restore(WebDriver driver, String route) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            AuthSnapshot current = getSnapshot();
+            if (current == null) {
+                return false;
+            }
+            inject(driver, current);
+            driver.get(ConfigReader.getBaseUrl() + route);
+            if (!driver.getCurrentUrl().contains("/login")) {
+                restores.incrementAndGet();
+                return true;
+            }
+            // Token rejected by the portal, mint a new one
+            rejected.incrementAndGet();
+            invalidate(current);
+        }
+        return false;
+    }
+
+    /**
+     * Capture cookies and local storage of a browser that has just logged in
+     * Used when the login API cannot be called directly
+     * @param driver Logged in WebDriver instance
+     */
+    public static synchronized void capture(WebDriver driver) {
+        Cookie authCookie = driver.manage().getCookieNamed(AUTH_COOKIE);
+        if (authCookie == null) {
+            return;
+        }
+        List<Cookie> cookies = new ArrayList<>(driver.manage().getCookies());
+        @SuppressWarnings("unchecked")
+        Map<String, String> localStorage = (Map<String, String>) ((JavascriptExecutor) driver).executeScript(
+                "var items = {};"
+                        + "for (var i = 0; i < window.localStorage.length; i++) {"
+                        + "  var key = window.localStorage.key(i); items[key] = window.localStorage.getItem(key);"
+                        + "}"
+                        + "return items;");
+        snapshot = new AuthSnapshot(cookies, localStorage, resolveExpiry(authCookie.getValue(), authCookie.getExpiry()));
+        LoggerUtils.info("Captured authenticated session, valid until " + snapshot.getExpiresAt());
+    }
+
+    /**
+     * Get statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("Auth session cache: mints=%d, restores=%d, rejected=%d",
+                mints.get(), restores.get(), rejected.get());
+    }
+
+    /**
+     * Get a valid snapshot, minting a new one if missing or expired
+     * @return Snapshot, or null if no session could be obtained
+     */
+    private static synchronized AuthSnapshot getSnapshot() {
+        if (snapshot != null && !snapshot.isExpired() && isAccepted(snapshot)) {
+            return snapshot;
+        }
+        snapshot = null;
+        if (!loginApiUnavailable) {
+            try {
+                snapshot = mintViaApi();
+                mints.incrementAndGet();
+                LoggerUtils.info("Minted authenticated session, valid until " + snapshot.getExpiresAt());
+            } catch (IOException | RuntimeException e) {
+                loginApiUnavailable = true;
+                LoggerUtils.warn("Login API unavailable, falling back to UI login: " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Check a cached token against the validation API, at most once per interval
+     * A token that was just minted or captured counts as checked
+     */
+    private static boolean isAccepted(AuthSnapshot authSnapshot) {
+        Instant validUntil = authSnapshot.getValidatedAt().plusSeconds(ConfigReader.getAuthValidateIntervalSeconds());
+        if (Instant.now().isBefore(validUntil)) {
+            return true;
+        }
+        StringBuilder cookieHeader = new StringBuilder();
+        for (Cookie cookie : authSnapshot.getCookies()) {
+            if (cookieHeader.length() > 0) {
+                cookieHeader.append("; ");
+            }
+            cookieHeader.append(cookie.getName()).append('=').append(cookie.getValue());
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ConfigReader.getBaseUrl() + ConfigReader.getAuthValidatePath()))
+                .timeout(Duration.ofSeconds(ConfigReader.getExplicitWait()))
+                .header("Cookie", cookieHeader.toString())
+                .GET()
+                .build();
+        try {
+            int status = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status == 200) {
+                authSnapshot.markValidated();
+                return true;
+            }
+            LoggerUtils.info("Cached auth token rejected with HTTP " + status + ", minting a new one");
+        } catch (IOException e) {
+            LoggerUtils.warn("Failed to validate cached auth token: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    private static synchronized void invalidate(AuthSnapshot rejectedSnapshot) {
+        if (snapshot == rejectedSnapshot) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Log in through the login API and collect the resulting cookies
+     * The portal route answers with an auth_token cookie; a backend endpoint
+     * answering with a token in the body is also accepted
+     */
+    private static AuthSnapshot mintViaApi() throws IOException, InterruptedException {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("email", ConfigReader.getAdminEmail());
+        credentials.put("password", ConfigReader.getAdminPassword());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ConfigReader.getBaseUrl() + ConfigReader.getAuthLoginPath()))
+                .timeout(Duration.ofSeconds(ConfigReader.getExplicitWait()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(credentials)))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Login API returned HTTP " + response.statusCode());
+        }
+
+        List<Cookie> cookies = new ArrayList<>();
+        String token = null;
+        Date cookieExpiry = null;
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            for (HttpCookie httpCookie : HttpCookie.parse(header)) {
+                Date expiry = httpCookie.getMaxAge() > 0
+                        ? Date.from(Instant.now().plusSeconds(httpCookie.getMaxAge()))
+                        : null;
+                cookies.add(new Cookie.Builder(httpCookie.getName(), httpCookie.getValue())
+                        .path("/")
+                        .isHttpOnly(httpCookie.isHttpOnly())
+                        .sameSite("Lax")
+                        .expiresOn(expiry)
+                        .build());
+                if (AUTH_COOKIE.equals(httpCookie.getName())) {
+                    token = httpCookie.getValue();
+                    cookieExpiry = expiry;
+                }
+            }
+        }
+        if (token == null) {
+            JsonNode body = objectMapper.readTree(response.body());
+            if (body.hasNonNull("token")) {
+                token = body.get("token").asText();
+                cookies.add(new Cookie.Builder(AUTH_COOKIE, token).path("/").isHttpOnly(true).sameSite("Lax").build());
+            }
+        }
+        if (token == null) {
+            throw new IOException("Login API response did not contain an auth token");
+        }
+        return new AuthSnapshot(cookies, Collections.emptyMap(), resolveExpiry(token, cookieExpiry));
+    }
+
+    /**
+     * Put snapshot cookies and local storage into the browser
+     * Chromium sessions get cookies through DevTools without loading a page first
+     */
+    private static void inject(WebDriver driver, AuthSnapshot authSnapshot) {
+        String baseUrl = ConfigReader.getBaseUrl();
+        if (driver instanceof HasCdp && authSnapshot.getLocalStorage().isEmpty()) {
+            try {
+                for (Cookie cookie : authSnapshot.getCookies()) {
+                    Map<String, Object> params = new HashMap<>();
+                    params.put("name", cookie.getName());
+                    params.put("value", cookie.getValue());
+                    params.put("url", baseUrl);
+                    params.put("path", "/");
+                    params.put("httpOnly", cookie.isHttpOnly());
+                    if (cookie.getExpiry() != null) {
+                        params.put("expires", cookie.getExpiry().getTime() / 1000);
+                    }
+                    ((HasCdp) driver).executeCdpCommand("Network.setCookie", params);
+                }
+                return;
+            } catch (WebDriverException e) {
+                LoggerUtils.debug("DevTools cookie injection failed, using page injection: " + e.getMessage());
+            }
+        }
+
+        // Cookies can only be added for the current origin; favicon.ico bypasses the auth middleware
+        driver.get(baseUrl + "/favicon.ico");
+        for (Cookie cookie : authSnapshot.getCookies()) {
+            driver.manage().addCookie(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                    .path("/")
+                    .isHttpOnly(cookie.isHttpOnly())
+                    .expiresOn(cookie.getExpiry())
+                    .build());
+        }
+        for (Map.Entry<String, String> entry : authSnapshot.getLocalStorage().entrySet()) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.setItem(arguments[0], arguments[1]);", entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Work out when a token expires from its JWT exp claim or cookie expiry
+     */
+    private static Instant resolveExpiry(String token, Date cookieExpiry) {
+        Instant expiry = cookieExpiry != null ? cookieExpiry.toInstant() : Instant.now().plus(DEFAULT_LIFETIME);
+        String[] parts = token.split("\\.");
+        if (parts.length == 3) {
+            try {
+                JsonNode claims = objectMapper.readTree(
+                        new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+                if (claims.has("exp")) {
+                    Instant tokenExpiry = Instant.ofEpochSecond(claims.get("exp").asLong());
+                    if (tokenExpiry.isBefore(expiry)) {
+                        expiry = tokenExpiry;
+                    }
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                LoggerUtils.debug("Auth token is not a readable JWT: " + e.getMessage());
+            }
+        }
+        return expiry.minus(EXPIRY_SKEW);
+    }
+
+    /**
+     * Cookies and local storage of an authenticated session
+     */
+    public static class AuthSnapshot {
+        private final List<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Instant expiresAt;
+        private volatile Instant validatedAt = Instant.now();
+
+        AuthSnapshot(List<Cookie> cookies, Map<String, String> localStorage, Instant expiresAt) {
+            this.cookies = Collections.unmodifiableList(cookies);
+            this.localStorage = localStorage == null
+                    ? Collections.emptyMap()
+                    : Collections.unmodifiableMap(localStorage);
+            this.expiresAt = expiresAt;
+        }
+
+        public List<Cookie> getCookies() {
+            return cookies;
+        }
+
+        public Map<String, String> getLocalStorage() {
+            return localStorage;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        public boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+
+        /**
+         * Get when the token was last accepted by the portal
+         * @return Time of minting, capture or the last successful validation
+         */
+        public Instant getValidatedAt() {
+            return validatedAt;
+        }
+
+        void markValidated() {
+            validatedAt = Instant.now();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs each test thread in its own isolated browser context of one shared Chrome process
+ * Contexts are created through the DevTools Target domain and have their own cookies
+ * and storage; each thread drives its context through a chromedriver session attached
+ * to the shared browser, so only one browser process is started per JVM
+ */
+public class BrowserContextManager {
+    private static final int WINDOW_WIDTH = 1920;
+    private static final int WINDOW_HEIGHT = 1080;
+
+    private static WebDriver hostDriver;
+    private static volatile CdpBrowserConnection browserConnection;
+    private static volatile String debuggerAddress;
+
+    // Statistics
+    private static final AtomicLong contextsCreated = new AtomicLong();
+    private static final AtomicLong memorySamples = new AtomicLong();
+    private static final AtomicLong totalHeapUsedBytes = new AtomicLong();
+    private static final AtomicLong maxHeapUsedBytes = new AtomicLong();
+
+    /**
+     * Create a new browser context and attach a driver session to it
+     * @return Context session owned by the calling thread
+     */
+    public static ContextSession acquire() {
+        CdpBrowserConnection connection = ensureBrowser();
+
+        Map<String, Object> contextParams = new HashMap<>();
+        contextParams.put("disposeOnDetach", false);
+        String contextId = connection.send("Target.createBrowserContext", contextParams)
+                .get("browserContextId").asText();
+
+        Map<String, Object> targetParams = new HashMap<>();
+        targetParams.put("url", "about:blank");
+        targetParams.put("browserContextId", contextId);
+        targetParams.put("width", WINDOW_WIDTH);
+        targetParams.put("height", WINDOW_HEIGHT);
+        String targetId;
+        try {
+            targetId = connection.send("Target.createTarget", targetParams).get("targetId").asText();
+        } catch (WebDriverException e) {
+            disposeContext(contextId);
+            throw e;
+        }
+
+        WebDriver contextDriver = null;
+        try {
+            ChromeOptions attachOptions = new ChromeOptions();
+            attachOptions.setExperimentalOption("debuggerAddress", debuggerAddress);
+            contextDriver = new ChromeDriver(attachOptions);
+            // Chromedriver window handles are DevTools target ids
+            contextDriver.switchTo().window(targetId);
+            contextDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
+            WaitUtils.installNetworkTracker(contextDriver);
+            PagePerformance.installObservers(contextDriver);
+        } catch (WebDriverException e) {
+            if (contextDriver != null) {
+                contextDriver.quit();
+            }
+            disposeContext(contextId);
+            throw e;
+        }
+
+        contextsCreated.incrementAndGet();
+        return new ContextSession(contextDriver, contextId, targetId);
+    }
+
+    /**
+     * Record context memory, detach its driver and dispose the context
+     * @param session Context session to release
+     */
+    public static void release(ContextSession session) {
+        if (session == null) {
+            return;
+        }
+        recordMemory(session);
+        try {
+            // Attached sessions only detach from the shared browser on quit
+            session.getDriver().quit();
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Failed to detach browser context driver: " + e.getMessage());
+        }
+        disposeContext(session.getContextId());
+    }
+
+    /**
+     * Quit the shared browser and log context statistics
+     */
+    public static synchronized void shutdown() {
+        if (hostDriver == null) {
+            return;
+        }
+        LoggerUtils.info(getStatsSummary());
+        if (browserConnection != null) {
+            browserConnection.close();
+            browserConnection = null;
+        }
+        try {
+            hostDriver.quit();
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Failed to quit shared browser: " + e.getMessage());
+        }
+        hostDriver = null;
+    }
+
+    /**
+     * Get per-context memory statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        long samples = memorySamples.get();
+        double avgHeapMb = samples == 0 ? 0 : totalHeapUsedBytes.get() / (double) samples / (1024 * 1024);
+        return String.format("Browser context stats: contexts=%d, avgJsHeapUsedMb=%.1f, maxJsHeapUsedMb=%.1f",
+                contextsCreated.get(), avgHeapMb, maxHeapUsedBytes.get() / (1024.0 * 1024));
+    }
+
+    /**
+     * Start the shared browser on first use
+     * @return Connection to the browser DevTools endpoint
+     */
+    private static synchronized CdpBrowserConnection ensureBrowser() {
+        if (browserConnection == null) {
+            String browser = ConfigReader.getBrowser().toLowerCase();
+            if (!"chrome".equals(browser)) {
+                throw new IllegalStateException("driver.mode=context requires browser=chrome, got: " + browser);
+            }
+            DriverBinaryResolver.resolve(browser);
+
+            int port = findFreePort();
+            ChromeOptions hostOptions = DriverManager.buildChromeOptions();
+            hostOptions.addArguments("--remote-debugging-port=" + port);
+            hostOptions.addArguments("--window-size=" + WINDOW_WIDTH + "," + WINDOW_HEIGHT);
+            hostDriver = new ChromeDriver(hostOptions);
+            debuggerAddress = "127.0.0.1:" + port;
+            browserConnection = CdpBrowserConnection.connect(debuggerAddress);
+            Runtime.getRuntime().addShutdownHook(new Thread(BrowserContextManager::shutdown));
+            LoggerUtils.info("Shared browser started for context mode at " + debuggerAddress);
+        }
+        return browserConnection;
+    }
+
+    private static void recordMemory(ContextSession session) {
+        if (!(session.getDriver() instanceof HasCdp)) {
+            return;
+        }
+        try {
+            Map<String, Object> heapUsage = ((HasCdp) session.getDriver())
+                    .executeCdpCommand("Runtime.getHeapUsage", Collections.emptyMap());
+            long usedBytes = ((Number) heapUsage.get("usedSize")).longValue();
+            memorySamples.incrementAndGet();
+            totalHeapUsedBytes.addAndGet(usedBytes);
+            maxHeapUsedBytes.accumulateAndGet(usedBytes, Math::max);
+            LoggerUtils.info(String.format("Browser context %s: jsHeapUsedMb=%.1f, jsHeapTotalMb=%.1f",
+                    session.getContextId(), usedBytes / (1024.0 * 1024),
+                    ((Number) heapUsage.get("totalSize")).doubleValue() / (1024 * 1024)));
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Failed to read browser context memory: " + e.getMessage());
+        }
+    }
+
+    private static void disposeContext(String contextId) {
+        CdpBrowserConnection connection = browserConnection;
+        if (connection == null) {
+            return;
+        }
+        try {
+            Map<String, Object> params = new HashMap<>();
+            params.put("browserContextId", contextId);
+            connection.send("Target.disposeBrowserContext", params);
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Failed to dispose browser context " + contextId + ": " + e.getMessage());
+        }
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new WebDriverException("No free port for remote debugging", e);
+        }
+    }
+
+    /**
+     * Isolated browser context driven by one test thread
+     */
+    public static class ContextSession {
+        private final WebDriver driver;
+        private final String contextId;
+        private final String targetId;
+
+        ContextSession(WebDriver driver, String contextId, String targetId) {
+            this.driver = driver;
+            this.contextId = contextId;
+            this.targetId = targetId;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        public String getContextId() {
+            return contextId;
+        }
+
+        public String getTargetId() {
+            return targetId;
+        }
+    }
+}
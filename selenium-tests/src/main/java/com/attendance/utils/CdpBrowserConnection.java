@@ -0,0 +1,135 @@
+package com.attendance.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal DevTools Protocol client for the browser-level endpoint
+ * Browser-wide commands such as Target.createBrowserContext are rejected on
+ * page sessions, so they are sent over the browser's own websocket
+ */
+public class CdpBrowserConnection implements WebSocket.Listener, AutoCloseable {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long COMMAND_TIMEOUT_SECONDS = 30;
+
+    private final Map<Long, CompletableFuture<JsonNode>> pendingCommands = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final StringBuilder partialMessage = new StringBuilder();
+    private WebSocket webSocket;
+
+    private CdpBrowserConnection() {
+    }
+
+    /**
+     * Connect to the browser endpoint of a Chrome instance
+     * @param debuggerAddress Remote debugging address (host:port)
+     * @return Open connection
+     */
+    public static CdpBrowserConnection connect(String debuggerAddress) {
+        HttpClient client = HttpClient.newHttpClient();
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + "/json/version")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            String webSocketUrl = objectMapper.readTree(response.body()).get("webSocketDebuggerUrl").asText();
+
+            CdpBrowserConnection connection = new CdpBrowserConnection();
+            connection.webSocket = client.newWebSocketBuilder()
+                    .buildAsync(URI.create(webSocketUrl), connection)
+                    .get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return connection;
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            throw new WebDriverException("Failed to connect to browser DevTools at " + debuggerAddress, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while connecting to browser DevTools", e);
+        }
+    }
+
+    /**
+     * Send a command and wait for its result
+     * @param method DevTools method name
+     * @param params Command parameters
+     * @return Result object of the command
+     */
+    public JsonNode send(String method, Map<String, Object> params) {
+        long id = nextId.incrementAndGet();
+        CompletableFuture<JsonNode> response = new CompletableFuture<>();
+        pendingCommands.put(id, response);
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("id", id);
+        message.put("method", method);
+        message.put("params", params);
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            synchronized (this) {
+                // Websocket sends must not overlap
+                webSocket.sendText(payload, true).get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            JsonNode reply = response.get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (reply.has("error")) {
+                throw new WebDriverException("DevTools command " + method + " failed: " + reply.get("error"));
+            }
+            return reply.get("result");
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            throw new WebDriverException("DevTools command " + method + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted during DevTools command " + method, e);
+        } finally {
+            pendingCommands.remove(id);
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+        partialMessage.append(data);
+        if (last) {
+            String text = partialMessage.toString();
+            partialMessage.setLength(0);
+            try {
+                JsonNode message = objectMapper.readTree(text);
+                if (message.has("id")) {
+                    CompletableFuture<JsonNode> response = pendingCommands.get(message.get("id").asLong());
+                    if (response != null) {
+                        response.complete(message);
+                    }
+                }
+            } catch (IOException e) {
+                LoggerUtils.warn("Ignoring malformed DevTools message: " + e.getMessage());
+            }
+        }
+        socket.request(1);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket socket, Throwable error) {
+        pendingCommands.values().forEach(response -> response.completeExceptionally(error));
+    }
+
+    @Override
+    public void close() {
+        if (webSocket != null) {
+            webSocket.abort();
+        }
+    }
+}
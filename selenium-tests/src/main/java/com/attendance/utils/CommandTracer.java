@@ -0,0 +1,271 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Traces every WebDriver command as a Chrome trace event
+ * Drivers are wrapped in an EventFiringDecorator when trace.enabled is set; the
+ * trace is written once per run and opens in Perfetto or chrome://tracing with
+ * one timeline row per test thread
+ */
+public class CommandTracer implements WebDriverListener {
+    private static final CommandTracer INSTANCE = new CommandTracer();
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final int MAX_DETAIL_LENGTH = 120;
+
+    private static final Queue<TraceEvent> events = new ConcurrentLinkedQueue<>();
+    private static final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private static final Map<Object, String> elementLocators = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ThreadLocal<Deque<Long>> callStarts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    // Statistics
+    private static final AtomicLong recordedEvents = new AtomicLong();
+    private static final AtomicLong droppedEvents = new AtomicLong();
+
+    private CommandTracer() {
+    }
+
+    /**
+     * Wrap a driver so its commands are traced, if tracing is enabled
+     * @param driver WebDriver instance
+     * @return Traced driver, or the driver itself when tracing is disabled
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if (!ConfigReader.isTraceEnabled() || driver == null) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * Record a span that did not go through the driver, e.g. a framework sleep
+     * @param name Span name
+     * @param category Trace category
+     * @param startNanos Start time from System.nanoTime()
+     * @param detail Extra detail shown with the span, may be null
+     */
+    public static void recordSpan(String name, String category, long startNanos, String detail) {
+        if (ConfigReader.isTraceEnabled()) {
+            record(name, category, startNanos, System.nanoTime(), detail, null);
+        }
+    }
+
+    /**
+     * Write recorded events as Chrome trace-event JSON
+     * @return Trace file path, or null if nothing was recorded
+     */
+    public static String writeTrace() {
+        if (events.isEmpty()) {
+            return null;
+        }
+        File file = new File(ExtentReportManager.getReportDir(), "trace_" + ExtentReportManager.getRunId() + ".json");
+        file.getParentFile().mkdirs();
+        try (JsonGenerator json = new JsonFactory().createGenerator(file, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("displayTimeUnit", "ms");
+            json.writeArrayFieldStart("traceEvents");
+            writeMetadata(json, "process_name", 0, "selenium-tests " + ExtentReportManager.getRunId());
+            for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+                writeMetadata(json, "thread_name", thread.getKey(), thread.getValue());
+            }
+            TraceEvent event;
+            while ((event = events.poll()) != null) {
+                json.writeStartObject();
+                json.writeStringField("name", event.name);
+                json.writeStringField("cat", event.category);
+                json.writeStringField("ph", "X");
+                json.writeNumberField("ts", event.startMicros);
+                json.writeNumberField("dur", event.durationMicros);
+                json.writeNumberField("pid", 1);
+                json.writeNumberField("tid", event.threadId);
+                json.writeObjectFieldStart("args");
+                if (event.testName != null) {
+                    json.writeStringField("test", event.testName);
+                }
+                if (event.detail != null) {
+                    json.writeStringField("detail", event.detail);
+                }
+                if (event.error != null) {
+                    json.writeStringField("error", event.error);
+                }
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write command trace: " + e.getMessage());
+            return null;
+        }
+        LoggerUtils.info("Command trace saved: " + file.getPath());
+        return file.getPath();
+    }
+
+    /**
+     * Get tracing statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("Command trace: events=%d, dropped=%d",
+                recordedEvents.get(), droppedEvents.get());
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        callStarts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        Long start = callStarts.get().poll();
+        if (start == null) {
+            return;
+        }
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            rememberLocator(result, args[0].toString());
+        }
+        record(method.getName(), getCategory(target), start, System.nanoTime(), describe(target, args), null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        Long start = callStarts.get().poll();
+        if (start == null) {
+            return;
+        }
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        record(method.getName(), getCategory(target), start, System.nanoTime(), describe(target, args),
+                cause.getClass().getSimpleName());
+    }
+
+    private static void record(String name, String category, long startNanos, long endNanos,
+                               String detail, String error) {
+        if (recordedEvents.get() >= ConfigReader.getTraceMaxEvents()) {
+            droppedEvents.incrementAndGet();
+            return;
+        }
+        recordedEvents.incrementAndGet();
+        Thread thread = Thread.currentThread();
+        threadNames.putIfAbsent(thread.getId(), thread.getName());
+        events.add(new TraceEvent(name, category, (startNanos - ORIGIN_NANOS) / 1000,
+                Math.max(0, endNanos - startNanos) / 1000, thread.getId(),
+                LoggerUtils.getCurrentTestName(), detail, error));
+    }
+
+    private static void writeMetadata(JsonGenerator json, String name, long threadId, String value)
+            throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", name);
+        json.writeStringField("ph", "M");
+        json.writeNumberField("pid", 1);
+        json.writeNumberField("tid", threadId);
+        json.writeObjectFieldStart("args");
+        json.writeStringField("name", value);
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static String getCategory(Object target) {
+        if (target instanceof WebElement) {
+            return "element";
+        } else if (target instanceof WebDriver) {
+            return "driver";
+        } else if (target instanceof WebDriver.Navigation) {
+            return "navigation";
+        } else if (target instanceof Alert) {
+            return "alert";
+        }
+        return "options";
+    }
+
+    private static void rememberLocator(Object result, String locator) {
+        if (result instanceof WebElement) {
+            elementLocators.put(unwrap(result), locator);
+        } else if (result instanceof List) {
+            for (Object element : (List<?>) result) {
+                elementLocators.put(unwrap(element), locator);
+            }
+        }
+    }
+
+    /**
+     * Element as seen by the browser, whether or not it went through the decorator
+     */
+    private static Object unwrap(Object element) {
+        return element instanceof Decorated ? ((Decorated<?>) element).getOriginal() : element;
+    }
+
+    /**
+     * Locator, URL or script of a command, plus the locator an element was found by
+     */
+    private static String describe(Object target, Object[] args) {
+        StringBuilder detail = new StringBuilder();
+        if (target instanceof WebElement) {
+            String locator = elementLocators.get(unwrap(target));
+            if (locator != null) {
+                detail.append(locator);
+            }
+        }
+        if (args != null && args.length > 0 && (args[0] instanceof By || args[0] instanceof String)) {
+            if (detail.length() > 0) {
+                detail.append(" > ");
+            }
+            detail.append(args[0]);
+        }
+        if (detail.length() == 0) {
+            return null;
+        }
+        return detail.length() > MAX_DETAIL_LENGTH ? detail.substring(0, MAX_DETAIL_LENGTH) + "..." : detail.toString();
+    }
+
+    /**
+     * One complete ("X") trace event
+     */
+    private static class TraceEvent {
+        private final String name;
+        private final String category;
+        private final long startMicros;
+        private final long durationMicros;
+        private final long threadId;
+        private final String testName;
+        private final String detail;
+        private final String error;
+
+        TraceEvent(String name, String category, long startMicros, long durationMicros, long threadId,
+                   String testName, String detail, String error) {
+            this.name = name;
+            this.category = category;
+            this.startMicros = startMicros;
+            this.durationMicros = durationMicros;
+            this.threadId = threadId;
+            this.testName = testName;
+            this.detail = detail;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.attendance.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Per-owner DevTools event listeners
+ * DevTools can only clear all listeners of a connection at once, which would
+ * also drop those of other recorders on the same browser. Each event gets one
+ * DevTools listener that dispatches to the registered owners, so an owner can
+ * remove just its own listeners.
+ */
+public class DevToolsListeners {
+    private static final Map<DevTools, Map<String, List<Registration<?>>>> registrations =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Add a listener for an event on behalf of an owner
+     * @param devTools DevTools connection of the browser
+     * @param event Event to listen for
+     * @param owner Object the listener belongs to, e.g. a recorder
+     * @param handler Event handler
+     */
+    public static <X> void add(DevTools devTools, Event<X> event, Object owner, Consumer<X> handler) {
+        List<Registration<?>> handlers;
+        boolean first = false;
+        synchronized (registrations) {
+            Map<String, List<Registration<?>>> byEvent =
+                    registrations.computeIfAbsent(devTools, key -> new ConcurrentHashMap<>());
+            handlers = byEvent.get(event.getMethod());
+            if (handlers == null) {
+                handlers = new CopyOnWriteArrayList<>();
+                byEvent.put(event.getMethod(), handlers);
+                first = true;
+            }
+        }
+        handlers.add(new Registration<>(owner, handler));
+        if (first) {
+            List<Registration<?>> dispatch = handlers;
+            devTools.addListener(event, value -> {
+                for (Registration<?> registration : dispatch) {
+                    registration.accept(value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove all listeners of an owner; listeners of other owners stay registered
+     * @param devTools DevTools connection of the browser
+     * @param owner Object passed to {@link #add(DevTools, Event, Object, Consumer)}
+     */
+    public static void remove(DevTools devTools, Object owner) {
+        Map<String, List<Registration<?>>> byEvent = registrations.get(devTools);
+        if (byEvent == null) {
+            return;
+        }
+        for (List<Registration<?>> handlers : byEvent.values()) {
+            handlers.removeIf(registration -> registration.owner == owner);
+        }
+    }
+
+    private static class Registration<X> {
+        private final Object owner;
+        private final Consumer<X> handler;
+
+        Registration(Object owner, Consumer<X> handler) {
+            this.owner = owner;
+            this.handler = handler;
+        }
+
+        @SuppressWarnings("unchecked")
+        void accept(Object value) {
+            handler.accept((X) value);
+        }
+    }
+}
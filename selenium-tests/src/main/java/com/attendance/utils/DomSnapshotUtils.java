@@ -0,0 +1,202 @@
+package com.attendance.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for reading tables and card grids in a single JavaScript round trip
+ * Virtualized lists (rows carrying aria-rowindex or data-index) are scrolled through
+ * inside the page so rows outside the viewport are included
+ */
+public class DomSnapshotUtils {
+    private static final long SCROLL_SETTLE_MILLIS = 50;
+    private static final long MAX_SNAPSHOT_MILLIS = 25_000;
+
+    // Shared by both snapshot scripts: locator lookup, text helpers and virtualized scrolling
+    private static final String SNAPSHOT_FUNCTIONS =
+            "function findAll(using, value) {"
+            + "  var found = [];"
+            + "  if (using === 'xpath') {"
+            + "    var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    for (var i = 0; i < result.snapshotLength; i++) { found.push(result.snapshotItem(i)); }"
+            + "  } else {"
+            + "    found = Array.prototype.slice.call(document.querySelectorAll(value));"
+            + "  }"
+            // Drop matches nested inside another match; walks each match's ancestors, O(matches x depth)
+            + "  var matched = new Set(found);"
+            + "  return found.filter(function (el) {"
+            + "    for (var node = el.parentElement; node; node = node.parentElement) {"
+            + "      if (matched.has(node)) { return false; }"
+            + "    }"
+            + "    return true;"
+            + "  });"
+            + "}"
+            + "function lines(el) {"
+            + "  if (!el) { return []; }"
+            + "  return el.innerText.split('\\n').map(function (line) { return line.trim(); })"
+            + "      .filter(function (line) { return line.length > 0; });"
+            + "}"
+            + "function text(el) { return lines(el).join(' '); }"
+            + "function virtualKey(el) { return el.getAttribute('aria-rowindex') || el.getAttribute('data-index'); }"
+            + "function scrollerOf(el) {"
+            + "  for (var node = el.parentElement; node; node = node.parentElement) {"
+            + "    var overflow = getComputedStyle(node).overflowY;"
+            + "    if ((overflow === 'auto' || overflow === 'scroll') && node.scrollHeight > node.clientHeight) {"
+            + "      return node;"
+            + "    }"
+            + "  }"
+            + "  return document.scrollingElement;"
+            + "}"
+            + "function snapshot(using, value, extract, settleMillis, timeoutMillis, done) {"
+            + "  var matches = findAll(using, value);"
+            + "  if (matches.length === 0 || virtualKey(matches[0]) === null) {"
+            + "    return done(matches.map(extract));"
+            + "  }"
+            + "  var seen = {}, records = [], scroller = scrollerOf(matches[0]);"
+            + "  var originalTop = scroller.scrollTop, deadline = Date.now() + timeoutMillis;"
+            + "  function collect() {"
+            + "    findAll(using, value).forEach(function (el) {"
+            + "      var key = virtualKey(el);"
+            + "      if (!(key in seen)) { seen[key] = true; records.push({ index: Number(key), record: extract(el) }); }"
+            + "    });"
+            + "  }"
+            + "  function finish() {"
+            + "    scroller.scrollTop = originalTop;"
+            + "    records.sort(function (a, b) { return a.index - b.index; });"
+            + "    done(records.map(function (entry) { return entry.record; }));"
+            + "  }"
+            + "  function step() {"
+            + "    collect();"
+            + "    if (scroller.scrollTop + scroller.clientHeight >= scroller.scrollHeight - 1 || Date.now() > deadline) {"
+            + "      return finish();"
+            + "    }"
+            + "    scroller.scrollTop += Math.max(scroller.clientHeight - 1, 1);"
+            + "    setTimeout(step, settleMillis);"
+            + "  }"
+            + "  scroller.scrollTop = 0;"
+            + "  setTimeout(step, settleMillis);"
+            + "}";
+
+    private static final String TABLE_SNAPSHOT_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+            + SNAPSHOT_FUNCTIONS
+            + "var first = findAll(arguments[0], arguments[1])[0];"
+            + "var table = first ? first.closest('table') : null;"
+            + "var headers = table ? Array.prototype.map.call(table.querySelectorAll('thead th'), text) : [];"
+            + "snapshot(arguments[0], arguments[1], function (row) {"
+            + "  var cells = row.cells ? row.cells : row.children;"
+            + "  return Array.prototype.map.call(cells, function (cell) { return lines(cell).join('\\n'); });"
+            + "}, arguments[2], arguments[3], function (rows) { done({ headers: headers, rows: rows }); });";
+
+    private static final String CARD_SNAPSHOT_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+            + SNAPSHOT_FUNCTIONS
+            + "snapshot(arguments[0], arguments[1], function (card) {"
+            + "  var title = text(card.querySelector('h1, h2, h3, h4, h5, h6'));"
+            + "  var badge = text(card.querySelector('span.rounded-full'));"
+            + "  var tag = text(card.querySelector('span.rounded:not(.rounded-full)'));"
+            + "  var description = text(card.querySelector('p'));"
+            + "  var known = [title, badge, tag, description];"
+            + "  var details = lines(card).filter(function (line) { return known.indexOf(line) < 0; });"
+            + "  return { title: title, badge: badge, tag: tag, description: description, details: details };"
+            + "}, arguments[2], arguments[3], done);";
+
+    /**
+     * Read all rows of a table with one script call
+     * @param driver WebDriver instance
+     * @param rowLocator Locator matching the table rows (xpath or css based)
+     * @return Table snapshot with header names and cell texts
+     */
+    @SuppressWarnings("unchecked")
+    public static TableSnapshot readTable(WebDriver driver, By rowLocator) {
+        By.Remotable.Parameters params = WaitUtils.toPageLocator(rowLocator);
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(
+                TABLE_SNAPSHOT_SCRIPT, params.using(), params.value(), SCROLL_SETTLE_MILLIS, MAX_SNAPSHOT_MILLIS);
+        return new TableSnapshot((List<String>) result.get("headers"), (List<List<String>>) result.get("rows"));
+    }
+
+    /**
+     * Read all cards of a card grid with one script call
+     * Each card is returned with title, badge, tag and description texts plus the
+     * remaining text lines as details
+     * @param driver WebDriver instance
+     * @param cardLocator Locator matching the cards (xpath or css based)
+     * @return Card field maps in page order
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> readCards(WebDriver driver, By cardLocator) {
+        By.Remotable.Parameters params = WaitUtils.toPageLocator(cardLocator);
+        return (List<Map<String, Object>>) ((JavascriptExecutor) driver).executeAsyncScript(
+                CARD_SNAPSHOT_SCRIPT, params.using(), params.value(), SCROLL_SETTLE_MILLIS, MAX_SNAPSHOT_MILLIS);
+    }
+
+    /**
+     * Get a text field of a card read by {@link #readCards}
+     * @param card Card field map
+     * @param field Field name
+     * @return Field text, empty if missing
+     */
+    public static String getCardText(Map<String, Object> card, String field) {
+        Object value = card.get(field);
+        return value == null ? "" : value.toString();
+    }
+
+    /**
+     * Get the detail lines of a card read by {@link #readCards}
+     * @param card Card field map
+     * @return Detail lines
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> getCardDetails(Map<String, Object> card) {
+        Object details = card.get("details");
+        return details == null ? Collections.emptyList() : (List<String>) details;
+    }
+
+    /**
+     * Header names and cell texts of a table
+     * Multi-line cells keep their lines separated by newlines
+     */
+    public static class TableSnapshot {
+        private final List<String> headers;
+        private final List<List<String>> rows;
+
+        TableSnapshot(List<String> headers, List<List<String>> rows) {
+            this.headers = headers == null ? Collections.emptyList() : Collections.unmodifiableList(headers);
+            this.rows = rows == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(rows));
+        }
+
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        public List<List<String>> getRows() {
+            return rows;
+        }
+
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        /**
+         * Get a cell by row index and header name (case insensitive)
+         * @param rowIndex Row index
+         * @param header Header name
+         * @return Cell text, empty if the column does not exist
+         */
+        public String getCell(int rowIndex, String header) {
+            List<String> row = rows.get(rowIndex);
+            for (int i = 0; i < headers.size() && i < row.size(); i++) {
+                if (headers.get(i).equalsIgnoreCase(header)) {
+                    return row.get(i);
+                }
+            }
+            return "";
+        }
+    }
+}
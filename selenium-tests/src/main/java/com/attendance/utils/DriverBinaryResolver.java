@@ -0,0 +1,227 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves browser driver binaries once per JVM
+ * Resolved driver paths and versions are persisted in a local manifest so
+ * later runs skip WebDriverManager entirely and work offline
+ */
+public class DriverBinaryResolver {
+    private static final String MANIFEST_FILE = "driver-manifest.properties";
+    private static final Map<String, ResolvedDriver> resolvedDrivers = new ConcurrentHashMap<>();
+    private static Properties manifest;
+
+    /**
+     * Resolve driver binary for the browser and export its system property
+     * Only the first call per browser does any work; other threads wait for it
+     * @param browser Browser name (chrome, firefox, edge, safari)
+     * @return Resolved driver details
+     */
+    public static ResolvedDriver resolve(String browser) {
+        return resolvedDrivers.computeIfAbsent(browser, DriverBinaryResolver::doResolve);
+    }
+
+    /**
+     * Drop the cached resolution for a browser if it came from the manifest
+     * Used when a session fails to start because the cached driver no longer
+     * matches the installed browser
+     * @param browser Browser name
+     * @return true if a manifest entry was invalidated
+     */
+    public static boolean invalidateIfFromManifest(String browser) {
+        ResolvedDriver resolved = resolvedDrivers.get(browser);
+        if (resolved == null || !resolved.isFromManifest()) {
+            return false;
+        }
+        if (resolvedDrivers.remove(browser, resolved)) {
+            synchronized (DriverBinaryResolver.class) {
+                Properties entries = loadManifest();
+                entries.stringPropertyNames().stream()
+                        .filter(key -> key.startsWith(browser + "."))
+                        .forEach(entries::remove);
+                saveManifest();
+            }
+            LoggerUtils.warn("Invalidated cached " + browser + " driver " + resolved.getDriverPath());
+        }
+        return true;
+    }
+
+    /**
+     * Record the browser version reported by a started session
+     * @param browser Browser name
+     * @param browserVersion Browser version from session capabilities
+     */
+    public static synchronized void recordBrowserVersion(String browser, String browserVersion) {
+        if (browserVersion == null || browserVersion.isEmpty()) {
+            return;
+        }
+        Properties entries = loadManifest();
+        if (entries.getProperty(browser + ".driver.path") == null
+                || browserVersion.equals(entries.getProperty(browser + ".browser.version"))) {
+            return;
+        }
+        entries.setProperty(browser + ".browser.version", browserVersion);
+        saveManifest();
+    }
+
+    private static ResolvedDriver doResolve(String browser) {
+        long start = System.nanoTime();
+        String systemProperty = getDriverSystemProperty(browser);
+        if (systemProperty == null) {
+            // Safari ships its own driver
+            return new ResolvedDriver(browser, null, null, null, false, elapsedMillis(start));
+        }
+
+        synchronized (DriverBinaryResolver.class) {
+            Properties entries = loadManifest();
+            String cachedPath = entries.getProperty(browser + ".driver.path");
+            if (cachedPath != null && new File(cachedPath).canExecute()) {
+                System.setProperty(systemProperty, cachedPath);
+                ResolvedDriver resolved = new ResolvedDriver(browser, cachedPath,
+                        entries.getProperty(browser + ".driver.version"),
+                        entries.getProperty(browser + ".browser.version"),
+                        true, elapsedMillis(start));
+                LoggerUtils.info("Using cached " + browser + " driver " + cachedPath
+                        + " (" + resolved.getDriverVersion() + ")");
+                return resolved;
+            }
+        }
+
+        WebDriverManager manager = getWebDriverManager(browser);
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        String driverVersion = manager.getDownloadedDriverVersion();
+
+        synchronized (DriverBinaryResolver.class) {
+            Properties entries = loadManifest();
+            if (driverPath != null) {
+                entries.setProperty(browser + ".driver.path", driverPath);
+                entries.setProperty(browser + ".driver.version", String.valueOf(driverVersion));
+                entries.setProperty(browser + ".resolved.at", Instant.now().toString());
+                saveManifest();
+            }
+            return new ResolvedDriver(browser, driverPath, driverVersion,
+                    entries.getProperty(browser + ".browser.version"), false, elapsedMillis(start));
+        }
+    }
+
+    private static WebDriverManager getWebDriverManager(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+    }
+
+    private static String getDriverSystemProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            case "safari":
+                return null;
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+    }
+
+    private static Properties loadManifest() {
+        if (manifest == null) {
+            manifest = new Properties();
+            File manifestFile = getManifestFile();
+            if (manifestFile.exists()) {
+                try (InputStream inputStream = new FileInputStream(manifestFile)) {
+                    manifest.load(inputStream);
+                } catch (IOException e) {
+                    LoggerUtils.warn("Failed to read driver manifest: " + e.getMessage());
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private static void saveManifest() {
+        File manifestFile = getManifestFile();
+        manifestFile.getParentFile().mkdirs();
+        try (OutputStream outputStream = new FileOutputStream(manifestFile)) {
+            manifest.store(outputStream, "Resolved browser drivers");
+        } catch (IOException e) {
+            LoggerUtils.warn("Failed to write driver manifest: " + e.getMessage());
+        }
+    }
+
+    private static File getManifestFile() {
+        return new File(ConfigReader.getCacheDir(), MANIFEST_FILE);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Resolved driver binary details
+     */
+    public static class ResolvedDriver {
+        private final String browser;
+        private final String driverPath;
+        private final String driverVersion;
+        private final String browserVersion;
+        private final boolean fromManifest;
+        private final long resolveMillis;
+
+        ResolvedDriver(String browser, String driverPath, String driverVersion, String browserVersion,
+                       boolean fromManifest, long resolveMillis) {
+            this.browser = browser;
+            this.driverPath = driverPath;
+            this.driverVersion = driverVersion;
+            this.browserVersion = browserVersion;
+            this.fromManifest = fromManifest;
+            this.resolveMillis = resolveMillis;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public String getDriverPath() {
+            return driverPath;
+        }
+
+        public String getDriverVersion() {
+            return driverVersion;
+        }
+
+        public String getBrowserVersion() {
+            return browserVersion;
+        }
+
+        public boolean isFromManifest() {
+            return fromManifest;
+        }
+
+        public long getResolveMillis() {
+            return resolveMillis;
+        }
+    }
+}
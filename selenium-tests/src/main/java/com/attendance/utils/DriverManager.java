@@ -1,92 +1,270 @@
 package com.attendance.utils;
 
 import com.attendance.config.ConfigReader;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.safari.SafariDriver;
 
+import java.io.IOException;
+
 /**
  * DriverManager class for managing WebDriver instances
  * Supports multiple browsers and thread-safe driver management
  */
 public class DriverManager {
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static ThreadLocal<DriverPool.PooledSession> pooledSession = new ThreadLocal<>();
+    private static ThreadLocal<BrowserContextManager.ContextSession> contextSession = new ThreadLocal<>();
+    private static volatile DriverPool driverPool;
 
     /**
      * Initialize WebDriver based on browser configuration
+     * In pool mode the driver is leased from a shared pool of live sessions,
+     * in context mode it drives an isolated browser context of a shared Chrome.
+     * With tracing enabled the returned driver records every command, with network
+     * recording or runtime metrics enabled they are recorded until the test's teardown
      * @return WebDriver instance
      */
     public static WebDriver getDriver() {
         if (driver.get() == null) {
-            String browser = ConfigReader.getBrowser().toLowerCase();
-            WebDriver webDriver;
-
-            switch (browser) {
-                case "chrome":
-                    WebDriverManager.chromedriver().setup();
-                    ChromeOptions chromeOptions = new ChromeOptions();
-                    if (ConfigReader.isHeadless()) {
-                        chromeOptions.addArguments("--headless");
-                    }
-                    chromeOptions.addArguments("--start-maximized");
-                    chromeOptions.addArguments("--disable-notifications");
-                    chromeOptions.addArguments("--disable-popup-blocking");
-                    chromeOptions.addArguments("--no-sandbox");
-                    chromeOptions.addArguments("--disable-dev-shm-usage");
-                    webDriver = new ChromeDriver(chromeOptions);
-                    break;
-
-                case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
-                    FirefoxOptions firefoxOptions = new FirefoxOptions();
-                    if (ConfigReader.isHeadless()) {
-                        firefoxOptions.addArguments("--headless");
-                    }
-                    webDriver = new FirefoxDriver(firefoxOptions);
-                    break;
-
-                case "edge":
-                    WebDriverManager.edgedriver().setup();
-                    EdgeOptions edgeOptions = new EdgeOptions();
-                    if (ConfigReader.isHeadless()) {
-                        edgeOptions.addArguments("--headless");
-                    }
-                    webDriver = new EdgeDriver(edgeOptions);
-                    break;
-
-                case "safari":
-                    webDriver = new SafariDriver();
-                    break;
-
-                default:
-                    throw new IllegalArgumentException("Unsupported browser: " + browser);
+            if (isPoolMode()) {
+                DriverPool.PooledSession session = getPool().lease();
+                pooledSession.set(session);
+                driver.set(CommandTracer.decorate(session.getDriver()));
+            } else if (isContextMode()) {
+                BrowserContextManager.ContextSession session = BrowserContextManager.acquire();
+                contextSession.set(session);
+                driver.set(CommandTracer.decorate(session.getDriver()));
+            } else {
+                driver.set(CommandTracer.decorate(createDriver()));
             }
-
-            webDriver.manage().window().maximize();
-            webDriver.manage().timeouts().implicitlyWait(
-                java.time.Duration.ofSeconds(ConfigReader.getImplicitWait())
-            );
-            driver.set(webDriver);
+            NetworkRecorder.start(driver.get());
+            RuntimeMetrics.start(driver.get());
         }
         return driver.get();
     }
 
+    /**
+     * Get the WebDriver of the current thread without starting one
+     * @return WebDriver instance, or null if the thread has none
+     */
+    public static WebDriver getCurrentDriver() {
+        return driver.get();
+    }
+
+    /**
+     * Launch the initial batch of pooled sessions concurrently
+     * Does nothing unless pool mode is enabled
+     */
+    public static void warmUp() {
+        if (isPoolMode()) {
+            getPool().warmUp(ConfigReader.getDriverPoolWarmup());
+        }
+    }
+
+    /**
+     * Start a new browser session based on browser configuration
+     * A cached driver binary that no longer matches the browser is re-resolved once
+     * @return WebDriver instance
+     */
+    private static WebDriver createDriver() {
+        String browser = ConfigReader.getBrowser().toLowerCase();
+        try {
+            return startSession(browser);
+        } catch (SessionNotCreatedException e) {
+            if (DriverBinaryResolver.invalidateIfFromManifest(browser)) {
+                LoggerUtils.warn("Session could not be created with cached driver, resolving again");
+                return startSession(browser);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Resolve the driver binary, spawn the driver process and create the session
+     * Logs a startup timing breakdown for each phase
+     * @param browser Browser name
+     * @return WebDriver instance
+     */
+    private static WebDriver startSession(String browser) {
+        long resolveStart = System.nanoTime();
+        DriverBinaryResolver.ResolvedDriver resolvedDriver = DriverBinaryResolver.resolve(browser);
+        long sessionStart = System.nanoTime();
+        long spawnNanos = 0;
+        WebDriver webDriver;
+
+        switch (browser) {
+            case "chrome":
+                ChromeOptions chromeOptions = buildChromeOptions();
+                ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
+                spawnNanos = startService(chromeService);
+                webDriver = new ChromeDriver(chromeService, chromeOptions);
+                break;
+
+            case "firefox":
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                if (ConfigReader.isHeadless()) {
+                    firefoxOptions.addArguments("--headless");
+                }
+                GeckoDriverService firefoxService = GeckoDriverService.createDefaultService();
+                spawnNanos = startService(firefoxService);
+                webDriver = new FirefoxDriver(firefoxService, firefoxOptions);
+                break;
+
+            case "edge":
+                EdgeOptions edgeOptions = new EdgeOptions();
+                if (ConfigReader.isHeadless()) {
+                    edgeOptions.addArguments("--headless");
+                }
+                EdgeDriverService edgeService = EdgeDriverService.createDefaultService();
+                spawnNanos = startService(edgeService);
+                webDriver = new EdgeDriver(edgeService, edgeOptions);
+                break;
+
+            case "safari":
+                webDriver = new SafariDriver();
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+        long handshakeNanos = System.nanoTime() - sessionStart - spawnNanos;
+
+        webDriver.manage().window().maximize();
+        webDriver.manage().timeouts().implicitlyWait(
+            java.time.Duration.ofSeconds(ConfigReader.getImplicitWait())
+        );
+
+        WaitUtils.installNetworkTracker(webDriver);
+        PagePerformance.installObservers(webDriver);
+
+        if (webDriver instanceof HasCapabilities) {
+            DriverBinaryResolver.recordBrowserVersion(browser,
+                ((HasCapabilities) webDriver).getCapabilities().getBrowserVersion());
+        }
+        LoggerUtils.info(String.format("Driver startup [%s]: resolve=%dms (%s), spawn=%dms, handshake=%dms",
+            browser,
+            (sessionStart - resolveStart) / 1_000_000,
+            resolvedDriver.isFromManifest() ? "manifest" : "resolved",
+            spawnNanos / 1_000_000,
+            handshakeNanos / 1_000_000));
+        return webDriver;
+    }
+
+    /**
+     * Build Chrome options from configuration
+     * @return Chrome options
+     */
+    static ChromeOptions buildChromeOptions() {
+        ChromeOptions chromeOptions = new ChromeOptions();
+        if (ConfigReader.isHeadless()) {
+            chromeOptions.addArguments("--headless");
+        }
+        chromeOptions.addArguments("--start-maximized");
+        chromeOptions.addArguments("--disable-notifications");
+        chromeOptions.addArguments("--disable-popup-blocking");
+        chromeOptions.addArguments("--no-sandbox");
+        chromeOptions.addArguments("--disable-dev-shm-usage");
+        return chromeOptions;
+    }
+
+    /**
+     * Start driver service process
+     * @param service Driver service
+     * @return Time taken to spawn the process in nanoseconds
+     */
+    private static long startService(DriverService service) {
+        long start = System.nanoTime();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new WebDriverException("Failed to start driver service: " + e.getMessage(), e);
+        }
+        return System.nanoTime() - start;
+    }
+
     /**
      * Quit and remove WebDriver instance
+     * In pool mode the session is returned to the pool instead of being quit,
+     * in context mode the browser context is disposed
      */
     public static void quitDriver() {
-        if (driver.get() != null) {
+        DriverPool.PooledSession session = pooledSession.get();
+        BrowserContextManager.ContextSession browserContext = contextSession.get();
+        if (browserContext != null) {
+            contextSession.remove();
+            driver.remove();
+            BrowserContextManager.release(browserContext);
+        } else if (session != null) {
+            pooledSession.remove();
+            driver.remove();
+            DriverPool pool = driverPool;
+            if (pool != null) {
+                pool.release(session);
+            } else {
+                session.getDriver().quit();
+            }
+        } else if (driver.get() != null) {
             driver.get().quit();
             driver.remove();
         }
     }
 
+    /**
+     * Shut down the driver pool and shared browser and log their statistics
+     * Should be called once after all tests have finished
+     */
+    public static synchronized void shutdown() {
+        if (driverPool != null) {
+            driverPool.shutdown();
+            LoggerUtils.info(driverPool.getStatsSummary());
+            driverPool = null;
+        }
+        BrowserContextManager.shutdown();
+    }
+
+    /**
+     * Get driver pool, creating it on first use
+     * @return Driver pool
+     */
+    private static DriverPool getPool() {
+        if (driverPool == null) {
+            synchronized (DriverManager.class) {
+                if (driverPool == null) {
+                    driverPool = new DriverPool(
+                        ConfigReader.getDriverPoolSize(),
+                        ConfigReader.getDriverPoolMaxLeases(),
+                        ConfigReader.getDriverPoolLeaseTimeout() * 1000L,
+                        ConfigReader.getDriverPoolPrelaunch(),
+                        DriverManager::createDriver
+                    );
+                    Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdown));
+                }
+            }
+        }
+        return driverPool;
+    }
+
+    private static boolean isPoolMode() {
+        return "pool".equals(ConfigReader.getDriverMode());
+    }
+
+    private static boolean isContextMode() {
+        return "context".equals(ConfigReader.getDriverMode());
+    }
+
     /**
      * Close current browser window
      */
@@ -0,0 +1,419 @@
+package com.attendance.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of live WebDriver sessions
+ * Sessions are leased per test, reset between leases and evicted after
+ * a configured number of leases or when they fail a health check.
+ * A configurable number of spare sessions is launched in the background
+ * so tests rarely block on browser startup
+ */
+public class DriverPool {
+    private static final long POLL_INTERVAL_MILLIS = 250;
+
+    private final int maxSize;
+    private final int maxLeasesPerSession;
+    private final long leaseTimeoutMillis;
+    private final int prelaunchCount;
+    private final Supplier<WebDriver> factory;
+    private final ExecutorService launcher;
+
+    private final BlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final AtomicInteger liveSessions = new AtomicInteger();
+    private final AtomicInteger launchingSessions = new AtomicInteger();
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private volatile boolean closed;
+
+    // Statistics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong prelaunched = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong totalLeaseNanos = new AtomicLong();
+    private final AtomicLong maxLeaseNanos = new AtomicLong();
+
+    /**
+     * Create a driver pool
+     * @param maxSize Maximum number of live sessions
+     * @param maxLeasesPerSession Number of leases after which a session is retired
+     * @param leaseTimeoutMillis Maximum time to wait for a free session
+     * @param prelaunchCount Number of idle sessions kept ready by background launches
+     * @param factory Factory used to start new sessions
+     */
+    public DriverPool(int maxSize, int maxLeasesPerSession, long leaseTimeoutMillis, int prelaunchCount,
+                      Supplier<WebDriver> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxLeasesPerSession = Math.max(1, maxLeasesPerSession);
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.prelaunchCount = Math.max(0, prelaunchCount);
+        this.factory = factory;
+        this.launcher = this.prelaunchCount > 0
+                ? Executors.newFixedThreadPool(this.prelaunchCount, daemonThreads("driver-prelaunch"))
+                : null;
+    }
+
+    /**
+     * Launch sessions concurrently so the first tests find them ready
+     * Blocks until all launches have finished
+     * @param count Number of sessions to launch
+     */
+    public void warmUp(int count) {
+        int target = Math.min(count, maxSize);
+        if (target < 1) {
+            return;
+        }
+        long start = System.nanoTime();
+        ExecutorService batch = Executors.newFixedThreadPool(target, daemonThreads("driver-warmup"));
+        try {
+            List<CompletableFuture<Void>> launches = new ArrayList<>();
+            for (int i = 0; i < target && reserveSlot(); i++) {
+                launches.add(launchAsync(batch));
+            }
+            CompletableFuture.allOf(launches.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            batch.shutdown();
+        }
+        LoggerUtils.info(String.format("Driver pool warmed up with %d sessions in %d ms",
+                idleSessions.size(), (System.nanoTime() - start) / 1_000_000));
+    }
+
+    /**
+     * Lease a session from the pool, starting a new one if the pool has capacity
+     * @return Pooled session
+     */
+    public PooledSession lease() {
+        long start = System.nanoTime();
+        PooledSession session = idleSessions.pollFirst();
+        if (session != null) {
+            hits.incrementAndGet();
+        } else {
+            // The test has to wait for a browser
+            waitingThreads.incrementAndGet();
+            try {
+                session = awaitSession(start);
+            } finally {
+                waitingThreads.decrementAndGet();
+            }
+            waits.incrementAndGet();
+            totalWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+
+        session.leaseCount++;
+        recordLeaseLatency(System.nanoTime() - start);
+        replenish();
+        return session;
+    }
+
+    private PooledSession awaitSession(long start) {
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMillis);
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("Driver pool is shut down");
+            }
+
+            PooledSession session = idleSessions.pollFirst();
+            if (session != null) {
+                hits.incrementAndGet();
+                return session;
+            }
+
+            // Start a session on the calling thread only if no background launch will serve it
+            if (launchingSessions.get() < waitingThreads.get() && reserveSlot()) {
+                session = startSession();
+                misses.incrementAndGet();
+                return session;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("Timed out after " + leaseTimeoutMillis
+                        + " ms waiting for a pooled WebDriver session");
+            }
+            try {
+                session = idleSessions.pollFirst(
+                        Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS)),
+                        TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver session", e);
+            }
+            if (session != null) {
+                hits.incrementAndGet();
+                return session;
+            }
+        }
+    }
+
+    /**
+     * Return a leased session to the pool
+     * The session is reset and health checked, or evicted if it is worn out or broken
+     * @param session Session to return
+     */
+    public void release(PooledSession session) {
+        if (session == null) {
+            return;
+        }
+        if (closed) {
+            destroy(session);
+            return;
+        }
+        if (session.leaseCount >= maxLeasesPerSession) {
+            evict(session, "reached " + maxLeasesPerSession + " leases");
+            return;
+        }
+        try {
+            reset(session);
+        } catch (WebDriverException e) {
+            evict(session, "failed health check: " + firstLine(e.getMessage()));
+            return;
+        }
+        // LIFO keeps the most recently used sessions warm
+        idleSessions.offerFirst(session);
+    }
+
+    /**
+     * Discard a leased session without returning it to the pool
+     * @param session Session to discard
+     * @param reason Reason for eviction
+     */
+    public void evict(PooledSession session, String reason) {
+        evictions.incrementAndGet();
+        LoggerUtils.info("Evicting pooled WebDriver session (" + reason + ")");
+        destroy(session);
+        replenish();
+    }
+
+    /**
+     * Quit all idle sessions and reject further leases
+     */
+    public void shutdown() {
+        closed = true;
+        if (launcher != null) {
+            launcher.shutdown();
+        }
+        List<PooledSession> drained = new ArrayList<>();
+        idleSessions.drainTo(drained);
+        for (PooledSession session : drained) {
+            destroy(session);
+        }
+    }
+
+    /**
+     * Get pool statistics summary
+     * @return Human readable statistics
+     */
+    public String getStatsSummary() {
+        long leaseTotal = leases.get();
+        long hitCount = hits.get();
+        long waitCount = waits.get();
+        double hitRate = leaseTotal == 0 ? 0 : (hitCount * 100.0) / leaseTotal;
+        double waitRate = leaseTotal == 0 ? 0 : (waitCount * 100.0) / leaseTotal;
+        double avgLeaseMillis = leaseTotal == 0 ? 0 : totalLeaseNanos.get() / 1_000_000.0 / leaseTotal;
+        double avgWaitMillis = waitCount == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / waitCount;
+        return String.format("Driver pool stats: leases=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, "
+                        + "prelaunched=%d, waits=%d, waitRate=%.1f%%, avgWaitMs=%.1f, "
+                        + "avgLeaseMs=%.1f, maxLeaseMs=%.1f, liveSessions=%d",
+                leaseTotal, hitCount, misses.get(), hitRate, evictions.get(),
+                prelaunched.get(), waitCount, waitRate, avgWaitMillis,
+                avgLeaseMillis, maxLeaseNanos.get() / 1_000_000.0, liveSessions.get());
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getWaits() {
+        return waits.get();
+    }
+
+    /**
+     * Start background launches until enough idle sessions are ready or on their way
+     */
+    private void replenish() {
+        if (launcher == null) {
+            return;
+        }
+        while (!closed && idleSessions.size() + launchingSessions.get() < prelaunchCount && reserveSlot()) {
+            launchAsync(launcher);
+        }
+    }
+
+    /**
+     * Start a session on an executor and add it to the idle sessions
+     * A slot must already be reserved for it
+     * @param executor Executor to launch on
+     * @return Future completing when the launch has finished
+     */
+    private CompletableFuture<Void> launchAsync(Executor executor) {
+        launchingSessions.incrementAndGet();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                PooledSession session = startSession();
+                prelaunched.incrementAndGet();
+                if (closed) {
+                    destroy(session);
+                } else {
+                    idleSessions.offerLast(session);
+                }
+            } catch (RuntimeException e) {
+                LoggerUtils.warn("Background WebDriver launch failed: " + firstLine(e.getMessage()));
+            } finally {
+                launchingSessions.decrementAndGet();
+            }
+        }, executor);
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = liveSessions.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (liveSessions.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PooledSession startSession() {
+        WebDriver webDriver = null;
+        try {
+            webDriver = factory.get();
+            return new PooledSession(webDriver);
+        } catch (RuntimeException e) {
+            liveSessions.decrementAndGet();
+            if (webDriver != null) {
+                // The browser started but could not be wrapped; do not leave it running
+                try {
+                    webDriver.quit();
+                } catch (WebDriverException quitFailure) {
+                    LoggerUtils.warn("Failed to quit WebDriver session: " + firstLine(quitFailure.getMessage()));
+                }
+            }
+            throw e;
+        }
+    }
+
+    private void destroy(PooledSession session) {
+        liveSessions.decrementAndGet();
+        try {
+            session.getDriver().quit();
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Failed to quit pooled WebDriver session: " + firstLine(e.getMessage()));
+        }
+    }
+
+    /**
+     * Reset session state between leases
+     * Closes extra windows, clears cookies and web storage and navigates to about:blank
+     * @param session Session to reset
+     */
+    private void reset(PooledSession session) {
+        WebDriver webDriver = session.getDriver();
+
+        for (String handle : new ArrayList<>(webDriver.getWindowHandles())) {
+            if (!handle.equals(session.getPrimaryWindow())) {
+                webDriver.switchTo().window(handle);
+                webDriver.close();
+            }
+        }
+        webDriver.switchTo().window(session.getPrimaryWindow());
+
+        String currentUrl = webDriver.getCurrentUrl();
+        if (currentUrl != null && currentUrl.startsWith("http")) {
+            ((JavascriptExecutor) webDriver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            webDriver.manage().deleteAllCookies();
+        }
+        if (webDriver instanceof HasCdp) {
+            // Clears cookies for every domain, not only the current one
+            ((HasCdp) webDriver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        }
+
+        webDriver.get("about:blank");
+        // Health check: a crashed browser fails here
+        webDriver.getWindowHandle();
+    }
+
+    private void recordLeaseLatency(long nanos) {
+        leases.incrementAndGet();
+        totalLeaseNanos.addAndGet(nanos);
+        maxLeaseNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "unknown error";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    /**
+     * Live WebDriver session owned by the pool
+     */
+    public static class PooledSession {
+        private final WebDriver driver;
+        private final String primaryWindow;
+        private int leaseCount;
+
+        PooledSession(WebDriver driver) {
+            this.driver = driver;
+            this.primaryWindow = driver.getWindowHandle();
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        public String getPrimaryWindow() {
+            return primaryWindow;
+        }
+
+        public int getLeaseCount() {
+            return leaseCount;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.Markup;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.ITestResult;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Owns the Extent report of a run and the per-thread report test handles
+ * All report mutations are queued to one background reporter thread, which
+ * flushes the HTML report and a JSONL result stream periodically, so a run that
+ * dies mid-suite still leaves a usable report behind
+ */
+public class ExtentReportManager {
+    private static final String REPORT_DIR = "test-output";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ThreadLocal<ReportTest> currentTest = new ThreadLocal<>();
+    private static final BlockingQueue<Runnable> reportQueue = new LinkedBlockingQueue<>();
+    private static final Runnable STOP = () -> { };
+
+    private static String runId;
+    private static ExtentReports extentReports;
+    private static BufferedWriter resultStream;
+    private static Thread reporterThread;
+    private static boolean dirty;
+
+    // Statistics
+    private static final AtomicLong reportedTests = new AtomicLong();
+    private static final AtomicLong streamOnlyTests = new AtomicLong();
+    private static final AtomicLong flushes = new AtomicLong();
+
+    /**
+     * Create the report and start the reporter thread
+     * Safe to call more than once; only the first call has an effect
+     */
+    public static synchronized void start() {
+        if (reporterThread != null) {
+            return;
+        }
+        runId = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        new File(REPORT_DIR).mkdirs();
+
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(getReportPath());
+        sparkReporter.config().setDocumentTitle("Admin Portal Test Report");
+        sparkReporter.config().setReportName("Selenium Automation Test Report");
+
+        extentReports = new ExtentReports();
+        extentReports.attachReporter(sparkReporter);
+        extentReports.setSystemInfo("Browser", ConfigReader.getBrowser());
+        extentReports.setSystemInfo("Environment", "Production");
+        extentReports.setSystemInfo("OS", System.getProperty("os.name"));
+
+        try {
+            resultStream = Files.newBufferedWriter(new File(REPORT_DIR, "ExtentReport_" + runId + ".jsonl").toPath(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LoggerUtils.warn("Failed to open result stream: " + e.getMessage());
+        }
+
+        reporterThread = new Thread(ExtentReportManager::runReporter, "extent-reporter");
+        reporterThread.setDaemon(true);
+        reporterThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(ExtentReportManager::stop));
+    }
+
+    /**
+     * Drain queued report work, flush the report and stop the reporter thread
+     */
+    public static synchronized void stop() {
+        Thread thread = reporterThread;
+        if (thread == null || !thread.isAlive()) {
+            return;
+        }
+        reportQueue.add(STOP);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(60));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LoggerUtils.info(getStatsSummary());
+    }
+
+    /**
+     * Create the report test of the calling thread for a test method
+     * Returns the existing handle if the thread already started this test
+     * @param result Test result of the test method
+     * @return Report test handle
+     */
+    public static ReportTest startTest(ITestResult result) {
+        ReportTest test = currentTest.get();
+        if (test != null && test.result == result) {
+            return test;
+        }
+        start();
+        test = new ReportTest(result);
+        currentTest.set(test);
+        long reported = reportedTests.incrementAndGet();
+        if (reported > ConfigReader.getReportHtmlMaxTests()) {
+            // Keep the in-memory report model bounded; the result stream still gets every test
+            streamOnlyTests.incrementAndGet();
+            return test;
+        }
+        ReportTest created = test;
+        String testName = result.getMethod().getMethodName();
+        String description = result.getMethod().getDescription();
+        enqueue(() -> created.extentTest = extentReports.createTest(testName, description));
+        return test;
+    }
+
+    /**
+     * Get the report test of the calling thread
+     * @return Report test handle, or a detached handle outside of a test
+     */
+    public static ReportTest getTest() {
+        ReportTest test = currentTest.get();
+        return test != null ? test : ReportTest.DETACHED;
+    }
+
+    /**
+     * Record the outcome of a test in the report and the result stream
+     * @param result Finished test result
+     */
+    public static void finishTest(ITestResult result) {
+        ReportTest test = currentTest.get();
+        if (test == null || test.result != result) {
+            // Skipped before any configuration ran on this thread
+            test = startTest(result);
+        }
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                test.log(Status.PASS, "Test passed successfully");
+                break;
+            case ITestResult.FAILURE:
+                test.log(Status.FAIL, "Test failed: "
+                        + (result.getThrowable() != null ? result.getThrowable().getMessage() : "unknown error"));
+                break;
+            case ITestResult.SKIP:
+                test.log(Status.SKIP, "Test skipped");
+                break;
+            default:
+                break;
+        }
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("runId", runId);
+        record.put("class", result.getTestClass().getRealClass().getName());
+        record.put("method", result.getMethod().getMethodName());
+        record.put("status", getStatusName(result.getStatus()));
+        record.put("start", result.getStartMillis());
+        record.put("durationMillis", result.getEndMillis() - result.getStartMillis());
+        record.put("thread", Thread.currentThread().getName());
+        if (result.getThrowable() != null) {
+            record.put("error", String.valueOf(result.getThrowable().getMessage()));
+        }
+        enqueue(() -> writeResult(record));
+    }
+
+    /**
+     * Get the id of the current run, shared by all report artifacts
+     * @return Run id (start timestamp)
+     */
+    public static String getRunId() {
+        start();
+        return runId;
+    }
+
+    /**
+     * Get the directory report artifacts are written to
+     * @return Report directory
+     */
+    public static String getReportDir() {
+        return REPORT_DIR;
+    }
+
+    /**
+     * Get reporting statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("Extent report: tests=%d, streamOnly=%d, flushes=%d, report=%s",
+                reportedTests.get(), streamOnlyTests.get(), flushes.get(), getReportPath());
+    }
+
+    private static String getReportPath() {
+        return REPORT_DIR + "/ExtentReport_" + runId + ".html";
+    }
+
+    private static void enqueue(Runnable work) {
+        reportQueue.add(work);
+    }
+
+    /**
+     * Reporter thread loop: applies queued report work and flushes on an interval
+     */
+    private static void runReporter() {
+        long flushIntervalNanos = TimeUnit.SECONDS.toNanos(ConfigReader.getReportFlushIntervalSeconds());
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        while (true) {
+            Runnable work;
+            try {
+                work = reportQueue.poll(Math.max(0, nextFlush - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                work = STOP;
+            }
+            if (work == STOP) {
+                flush();
+                closeResultStream();
+                return;
+            }
+            if (work != null) {
+                try {
+                    work.run();
+                    dirty = true;
+                } catch (RuntimeException e) {
+                    LoggerUtils.warn("Report update failed: " + e.getMessage());
+                }
+            }
+            if (System.nanoTime() >= nextFlush) {
+                flush();
+                nextFlush = System.nanoTime() + flushIntervalNanos;
+            }
+        }
+    }
+
+    private static void flush() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            extentReports.flush();
+            if (resultStream != null) {
+                resultStream.flush();
+            }
+            flushes.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            LoggerUtils.warn("Report flush failed: " + e.getMessage());
+        }
+        dirty = false;
+    }
+
+    private static void writeResult(Map<String, Object> record) {
+        if (resultStream == null) {
+            return;
+        }
+        try {
+            resultStream.write(objectMapper.writeValueAsString(record));
+            resultStream.newLine();
+        } catch (IOException e) {
+            LoggerUtils.warn("Failed to write test result: " + e.getMessage());
+        }
+    }
+
+    private static void closeResultStream() {
+        if (resultStream != null) {
+            try {
+                resultStream.close();
+            } catch (IOException e) {
+                LoggerUtils.warn("Failed to close result stream: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String getStatusName(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS:
+                return "PASS";
+            case ITestResult.FAILURE:
+                return "FAIL";
+            case ITestResult.SKIP:
+                return "SKIP";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    /**
+     * Report test handle owned by one test thread
+     * Calls are queued to the reporter thread in order
+     */
+    public static class ReportTest {
+        static final ReportTest DETACHED = new ReportTest(null);
+
+        private final ITestResult result;
+        private volatile ExtentTest extentTest;
+
+        ReportTest(ITestResult result) {
+            this.result = result;
+        }
+
+        /**
+         * Log a message
+         * @param status Log status
+         * @param details Message
+         * @return This handle
+         */
+        public ReportTest log(Status status, String details) {
+            return apply(test -> test.log(status, details));
+        }
+
+        /**
+         * Log a markup block
+         * @param status Log status
+         * @param markup Markup, e.g. from MarkupHelper
+         * @return This handle
+         */
+        public ReportTest log(Status status, Markup markup) {
+            return apply(test -> test.log(status, markup));
+        }
+
+        public ReportTest info(String details) {
+            return log(Status.INFO, details);
+        }
+
+        public ReportTest info(Markup markup) {
+            return log(Status.INFO, markup);
+        }
+
+        /**
+         * Attach a screenshot file
+         * @param path Screenshot path
+         * @return This handle
+         */
+        public ReportTest addScreenCaptureFromPath(String path) {
+            return apply(test -> test.addScreenCaptureFromPath(path));
+        }
+
+        private ReportTest apply(Consumer<ExtentTest> update) {
+            if (this != DETACHED) {
+                // Runs after the queued createTest of this handle
+                enqueue(() -> {
+                    if (extentTest != null) {
+                        update.accept(extentTest);
+                    }
+                });
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Profiles the cost of page object locators
+ * WaitUtils reports every locator resolution here when locator.profile.enabled is
+ * set: wait time, polling attempts and, for the first few resolutions, match
+ * count and in-page evaluation time. The benchmark mode evaluates page object
+ * locators against a seeded page at growing DOM sizes
+ */
+public class LocatorProfiler {
+    private static final String PAGES_PACKAGE = "com.attendance.pages.";
+    private static final String UTILS_PACKAGE = "com.attendance.utils.";
+    private static final int SAMPLE_REPETITIONS = 10;
+    private static final int REPORT_TOP = 5;
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+    private static final Map<String, LocatorStats> statsByKey = new ConcurrentHashMap<>();
+
+    // Evaluates a locator repeatedly and returns [match count, microseconds per evaluation]
+    private static final String MEASURE_SCRIPT =
+            WaitUtils.COUNT_MATCHES_FUNCTION
+            + "var using = arguments[0], value = arguments[1], repetitions = arguments[2], count = 0;"
+            + "var start = performance.now();"
+            + "for (var i = 0; i < repetitions; i++) { count = countMatches(using, value); }"
+            + "return [count, (performance.now() - start) * 1000 / repetitions];";
+
+    // Replaces the document body with n worker cards, n table rows and the portal's form markup
+    private static final String SEED_SCRIPT =
+            "var n = arguments[0], cards = [], rows = [];"
+            + "for (var i = 0; i < n; i++) {"
+            + "  cards.push('<div class=\"bg-white rounded-lg shadow p-6\"><div class=\"flex\"><h3>Worker ' + i + '</h3>'"
+            + "    + '<span class=\"rounded-full bg-green-100\">Active</span></div>'"
+            + "    + '<span class=\"rounded bg-blue-100\">Mason</span><p>Site crew member ' + i + '</p>'"
+            + "    + '<div class=\"text-sm\">Checked In</div><div class=\"text-sm\">worker' + i + '@example.com</div>'"
+            + "    + '<button title=\"Edit\">Edit</button><button title=\"Delete\">Delete</button></div>');"
+            + "  rows.push('<tr><td>Worker ' + i + '</td><td>Project ' + (i % 7) + '</td>'"
+            + "    + '<td>08:00</td><td>17:00</td><td>9.0</td><td><span class=\"rounded-full\">Checked Out</span></td></tr>');"
+            + "}"
+            + "document.body.innerHTML = '<nav class=\"space-y-1\"><a href=\"/dashboard\">Dashboard</a>'"
+            + "  + '<a href=\"/workers\">Workers</a><a href=\"/projects\">Projects</a><a href=\"/attendance\">Attendance</a></nav>'"
+            + "  + '<h1>Workers</h1><button>Add Worker</button><button>Sign Out</button>'"
+            + "  + '<select class=\"border-gray-300\"></select><select class=\"border-gray-300\"></select>'"
+            + "  + '<div class=\"grid grid-cols-3\">' + cards.join('') + '</div>'"
+            + "  + '<table><thead><tr><th>Staff</th><th>Project</th></tr></thead><tbody>' + rows.join('') + '</tbody></table>'"
+            + "  + '<form><label>Name</label><input placeholder=\"Enter worker name\"><label>Email</label><input type=\"email\">'"
+            + "  + '<label>Check In Time</label><input type=\"datetime-local\"><button type=\"submit\">Save</button></form>';"
+            + "return document.getElementsByTagName('*').length;";
+
+    /**
+     * Check if locator profiling is enabled
+     * @return true if resolutions are recorded
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isLocatorProfileEnabled();
+    }
+
+    /**
+     * Record one locator resolution
+     * The owning page object method is taken from the call stack
+     * @param driver WebDriver instance, used to sample match count and in-page cost
+     * @param locator Resolved locator
+     * @param elapsedNanos Time spent resolving, including polling
+     * @param attempts Number of times the locator was evaluated
+     * @param found true if the locator resolved
+     */
+    public static void record(WebDriver driver, By locator, long elapsedNanos, int attempts, boolean found) {
+        String owner = findOwner();
+        LocatorStats stats = statsByKey.computeIfAbsent(owner + " " + locator,
+                key -> new LocatorStats(owner, locator.toString()));
+        boolean sample;
+        synchronized (stats) {
+            stats.calls++;
+            stats.attempts += Math.max(1, attempts);
+            stats.totalNanos += elapsedNanos;
+            stats.maxNanos = Math.max(stats.maxNanos, elapsedNanos);
+            if (!found) {
+                stats.misses++;
+            }
+            sample = found && stats.samples < ConfigReader.getLocatorProfileSamples();
+            if (sample) {
+                stats.samples++;
+            }
+        }
+        if (sample) {
+            // Profiling overhead, not application time; excluded like other framework waits
+            long startNanos = System.nanoTime();
+            Measurement measurement;
+            try {
+                measurement = measure(driver, locator, SAMPLE_REPETITIONS);
+            } finally {
+                TransactionTimer.excludeTime(System.nanoTime() - startNanos);
+            }
+            if (measurement != null) {
+                synchronized (stats) {
+                    stats.sampledMicros += measurement.micros;
+                    stats.maxMatches = Math.max(stats.maxMatches, measurement.matches);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the ranked locator report and log the most expensive locators per page object
+     * @return Report file path, or null if nothing was recorded
+     */
+    public static String writeReport() {
+        if (statsByKey.isEmpty()) {
+            return null;
+        }
+        Map<String, List<Map<String, Object>>> byPage = new TreeMap<>();
+        List<LocatorStats> ranked = new ArrayList<>(statsByKey.values());
+        ranked.sort(Comparator.comparingLong((LocatorStats stats) -> stats.totalNanos).reversed());
+        for (LocatorStats stats : ranked) {
+            String page = stats.owner.contains(".") ? stats.owner.substring(0, stats.owner.indexOf('.')) : stats.owner;
+            byPage.computeIfAbsent(page, key -> new ArrayList<>()).add(stats.toMap());
+        }
+
+        for (Map.Entry<String, List<Map<String, Object>>> page : byPage.entrySet()) {
+            StringBuilder top = new StringBuilder("Most expensive locators in " + page.getKey() + ":");
+            for (Map<String, Object> entry : page.getValue().subList(0, Math.min(REPORT_TOP, page.getValue().size()))) {
+                top.append(String.format("%n  %8.1fms total, %5.1fms avg, %d calls, %d retries, %d misses, "
+                                + "%d matches, %.0fus in page  %s  %s",
+                        entry.get("totalMillis"), entry.get("avgMillis"), entry.get("calls"), entry.get("retries"),
+                        entry.get("misses"), entry.get("maxMatches"), entry.get("inPageMicros"),
+                        entry.get("owner"), entry.get("locator")));
+            }
+            LoggerUtils.info(top.toString());
+        }
+        return writeJson("locator_profile_", byPage);
+    }
+
+    /**
+     * Evaluate page object locators against a seeded page at growing DOM sizes
+     * Replaces the current document's body; run it on a throwaway page
+     * @param driver WebDriver instance
+     * @param pages Page objects whose By fields are benchmarked
+     * @param sizes Number of seeded cards and table rows per step
+     * @param repetitions Evaluations per locator and size
+     * @return Results ordered by cost at the largest size, most expensive first
+     */
+    public static List<BenchmarkResult> benchmark(WebDriver driver, List<Object> pages, int[] sizes,
+                                                  int repetitions) {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (Object page : pages) {
+            locators.putAll(getPageLocators(page));
+        }
+        int[] domSizes = new int[sizes.length];
+        Map<String, double[]> micros = new LinkedHashMap<>();
+        for (int step = 0; step < sizes.length; step++) {
+            domSizes[step] = ((Number) ((JavascriptExecutor) driver).executeScript(SEED_SCRIPT, sizes[step])).intValue();
+            for (Map.Entry<String, By> locator : locators.entrySet()) {
+                Measurement measurement = measure(driver, locator.getValue(), repetitions);
+                micros.computeIfAbsent(locator.getKey(), key -> new double[sizes.length])[step] =
+                        measurement == null ? -1 : measurement.micros;
+            }
+        }
+
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (Map.Entry<String, double[]> entry : micros.entrySet()) {
+            results.add(new BenchmarkResult(entry.getKey(), locators.get(entry.getKey()).toString(),
+                    domSizes, entry.getValue()));
+        }
+        results.sort(Comparator.comparingDouble(BenchmarkResult::getLargestMicros).reversed());
+
+        List<Map<String, Object>> json = new ArrayList<>();
+        for (BenchmarkResult result : results) {
+            json.add(result.toMap());
+        }
+        writeJson("locator_benchmark_", json);
+        return results;
+    }
+
+    /**
+     * Get all By fields of a page object, keyed PageClass.fieldName
+     * @param page Page object instance
+     * @return Locators by name
+     */
+    public static Map<String, By> getPageLocators(Object page) {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (Field field : page.getClass().getDeclaredFields()) {
+            if (By.class.isAssignableFrom(field.getType())) {
+                try {
+                    field.setAccessible(true);
+                    locators.put(page.getClass().getSimpleName() + "." + field.getName(), (By) field.get(page));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    LoggerUtils.debug("Cannot read locator " + field.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+        return locators;
+    }
+
+    /**
+     * Get profiling statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        long calls = 0;
+        long attempts = 0;
+        long nanos = 0;
+        for (LocatorStats stats : statsByKey.values()) {
+            synchronized (stats) {
+                calls += stats.calls;
+                attempts += stats.attempts;
+                nanos += stats.totalNanos;
+            }
+        }
+        return String.format("Locator profile: locators=%d, resolutions=%d, retries=%d, resolveTime=%.1fs",
+                statsByKey.size(), calls, attempts - calls, nanos / 1e9);
+    }
+
+    /**
+     * First page object frame on the call stack, e.g. WorkerPage.deleteWorker
+     */
+    private static String findOwner() {
+        return stackWalker.walk(frames -> {
+            String fallback = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (className.startsWith(PAGES_PACKAGE)) {
+                    return simpleName(className) + "." + frame.getMethodName();
+                }
+                if (fallback == null && className.startsWith("com.attendance.") && !className.startsWith(UTILS_PACKAGE)) {
+                    fallback = simpleName(className) + "." + frame.getMethodName();
+                }
+            }
+            return fallback != null ? fallback : "unknown";
+        });
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested > 0 ? name.substring(0, nested) : name;
+    }
+
+    /**
+     * Evaluate a locator inside the page
+     * @return Match count and cost per evaluation, or null for locators the page cannot evaluate
+     */
+    private static Measurement measure(WebDriver driver, By locator, int repetitions) {
+        try {
+            By.Remotable.Parameters params = WaitUtils.toPageLocator(locator);
+            List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(MEASURE_SCRIPT,
+                    params.using(), params.value(), repetitions);
+            return new Measurement(((Number) result.get(0)).intValue(), ((Number) result.get(1)).doubleValue());
+        } catch (IllegalArgumentException | WebDriverException e) {
+            return null;
+        }
+    }
+
+    private static String writeJson(String prefix, Object value) {
+        File file = new File(ExtentReportManager.getReportDir(), prefix + ExtentReportManager.getRunId() + ".json");
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, value);
+            LoggerUtils.info("Locator report saved: " + file.getPath());
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write locator report: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static class Measurement {
+        private final int matches;
+        private final double micros;
+
+        Measurement(int matches, double micros) {
+            this.matches = matches;
+            this.micros = micros;
+        }
+    }
+
+    /**
+     * Accumulated cost of one locator used from one page object method
+     */
+    private static class LocatorStats {
+        private final String owner;
+        private final String locator;
+        private long calls;
+        private long attempts;
+        private long misses;
+        private long totalNanos;
+        private long maxNanos;
+        private int samples;
+        private double sampledMicros;
+        private int maxMatches;
+
+        LocatorStats(String owner, String locator) {
+            this.owner = owner;
+            this.locator = locator;
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("owner", owner);
+            map.put("locator", locator);
+            map.put("calls", calls);
+            map.put("retries", attempts - calls);
+            map.put("misses", misses);
+            map.put("totalMillis", totalNanos / 1e6);
+            map.put("avgMillis", calls == 0 ? 0.0 : totalNanos / 1e6 / calls);
+            map.put("maxMillis", maxNanos / 1e6);
+            map.put("maxMatches", maxMatches);
+            map.put("inPageMicros", samples == 0 ? 0.0 : sampledMicros / samples);
+            return map;
+        }
+    }
+
+    /**
+     * In-page cost of one locator at each seeded DOM size
+     */
+    public static class BenchmarkResult {
+        private final String name;
+        private final String locator;
+        private final int[] domSizes;
+        private final double[] micros;
+
+        BenchmarkResult(String name, String locator, int[] domSizes, double[] micros) {
+            this.name = name;
+            this.locator = locator;
+            this.domSizes = domSizes;
+            this.micros = micros;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        /**
+         * Get cost per evaluation at the largest DOM size
+         * @return Microseconds, or -1 if the locator cannot be evaluated in the page
+         */
+        public double getLargestMicros() {
+            return micros[micros.length - 1];
+        }
+
+        /**
+         * Get how much slower the locator is at the largest size than at the smallest
+         * @return Cost ratio, or 0 if not measurable
+         */
+        public double getGrowth() {
+            return micros[0] > 0 ? micros[micros.length - 1] / micros[0] : 0;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", name);
+            map.put("locator", locator);
+            Map<String, Double> costs = new LinkedHashMap<>();
+            for (int i = 0; i < domSizes.length; i++) {
+                costs.put(String.valueOf(domSizes[i]), micros[i]);
+            }
+            map.put("microsByDomSize", costs);
+            map.put("growth", getGrowth());
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%10.1fus  x%-6.1f %s  %s", getLargestMicros(), getGrowth(), name, locator);
+        }
+    }
+}
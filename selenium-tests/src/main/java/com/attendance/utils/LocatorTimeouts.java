@@ -0,0 +1,235 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-locator wait timeouts learned from earlier runs
+ * Time-to-ready of every explicit locator wait is kept in a history file in the
+ * cache directory. Once a wait has enough history its timeout becomes a high
+ * percentile of that history times a safety factor, capped by explicit.wait, so
+ * a broken locator fails in seconds instead of the full explicit wait
+ */
+public class LocatorTimeouts {
+    private static final String HISTORY_FILE = "locator-timings.json";
+    private static final long MIN_POLLING_MILLIS = 50;
+    private static final long MAX_POLLING_MILLIS = 500;
+    // Waits not seen for this long are dropped, e.g. locators built from generated test data
+    private static final long HISTORY_RETENTION_MILLIS = 30L * 24 * 60 * 60 * 1000;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<String, History> histories = loadHistory();
+
+    // Statistics
+    private static final AtomicLong waits = new AtomicLong();
+    private static final AtomicLong learnedWaits = new AtomicLong();
+    private static final AtomicLong regressions = new AtomicLong();
+    private static final AtomicLong fastFailures = new AtomicLong();
+    private static final AtomicLong fastFailureSavedMillis = new AtomicLong();
+
+    /**
+     * Get the timeout and polling interval for a wait
+     * @param key Wait key, the condition description including its locator
+     * @return Learned timeout, or the global explicit wait without enough history
+     */
+    public static Timeout getTimeout(String key) {
+        waits.incrementAndGet();
+        long ceilingMillis = ConfigReader.getExplicitWait() * 1000L;
+        History history = histories.get(key);
+        long[] samples = history == null ? new long[0] : history.snapshot();
+        if (samples.length < ConfigReader.getAdaptiveWaitMinSamples()) {
+            return new Timeout(ceilingMillis, MAX_POLLING_MILLIS, false, 0);
+        }
+        learnedWaits.incrementAndGet();
+        Arrays.sort(samples);
+        long high = percentile(samples, ConfigReader.getAdaptiveWaitPercentile());
+        long timeoutMillis = Math.min(ceilingMillis, Math.max(ConfigReader.getAdaptiveWaitFloorMillis(),
+                Math.round(high * ConfigReader.getAdaptiveWaitMultiplier())));
+        long pollingMillis = Math.max(MIN_POLLING_MILLIS, Math.min(MAX_POLLING_MILLIS, percentile(samples, 50) / 4));
+        return new Timeout(timeoutMillis, pollingMillis, true, high);
+    }
+
+    /**
+     * Record how long a wait took until its condition held
+     * @param key Wait key
+     * @param elapsedMillis Time to ready
+     */
+    public static void record(String key, long elapsedMillis) {
+        histories.computeIfAbsent(key, k -> new History()).add(elapsedMillis);
+    }
+
+    /**
+     * Record a wait that outlived its learned timeout but still completed
+     * @param key Wait key
+     * @param timeout Learned timeout that was exceeded
+     * @param elapsedMillis Actual time to ready
+     */
+    public static void recordRegression(String key, Timeout timeout, long elapsedMillis) {
+        regressions.incrementAndGet();
+        LoggerUtils.warn(String.format("Locator regression: %s took %dms, history p%d=%dms, learned timeout=%dms",
+                key, elapsedMillis, ConfigReader.getAdaptiveWaitPercentile(), timeout.getHistoryMillis(),
+                timeout.getTimeoutMillis()));
+    }
+
+    /**
+     * Record a wait that failed on its learned timeout instead of the global one
+     * @param key Wait key
+     * @param timeout Learned timeout
+     */
+    public static void recordFastFailure(String key, Timeout timeout) {
+        fastFailures.incrementAndGet();
+        fastFailureSavedMillis.addAndGet(ConfigReader.getExplicitWait() * 1000L - timeout.getTimeoutMillis());
+        LoggerUtils.warn("Wait failed after learned timeout of " + timeout.getTimeoutMillis() + "ms: " + key);
+    }
+
+    /**
+     * Write the history file, keeping the most recent samples per wait
+     */
+    public static void saveHistory() {
+        long cutoff = System.currentTimeMillis() - HISTORY_RETENTION_MILLIS;
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        for (Map.Entry<String, History> entry : histories.entrySet()) {
+            History history = entry.getValue();
+            if (history.lastSeenMillis >= cutoff) {
+                Map<String, Object> stored = new LinkedHashMap<>();
+                stored.put("lastSeen", history.lastSeenMillis);
+                stored.put("millis", history.snapshot());
+                snapshot.put(entry.getKey(), stored);
+            }
+        }
+        File file = getHistoryFile();
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, snapshot);
+        } catch (IOException e) {
+            LoggerUtils.warn("Failed to write locator timing history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get adaptive wait statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("Adaptive waits: waits=%d, learned=%d, regressions=%d, fastFailures=%d, saved=%.1fs, "
+                        + "history=%d waits",
+                waits.get(), learnedWaits.get(), regressions.get(), fastFailures.get(),
+                fastFailureSavedMillis.get() / 1000.0, histories.size());
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static Map<String, History> loadHistory() {
+        Map<String, History> loaded = new ConcurrentHashMap<>();
+        File file = getHistoryFile();
+        if (file.exists()) {
+            try {
+                Map<String, StoredHistory> stored = objectMapper.readValue(file,
+                        new TypeReference<Map<String, StoredHistory>>() { });
+                for (Map.Entry<String, StoredHistory> entry : stored.entrySet()) {
+                    History history = new History();
+                    entry.getValue().millis.forEach(history::add);
+                    history.lastSeenMillis = entry.getValue().lastSeen;
+                    loaded.put(entry.getKey(), history);
+                }
+            } catch (IOException e) {
+                LoggerUtils.warn("Failed to read locator timing history: " + e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    private static File getHistoryFile() {
+        return new File(ConfigReader.getCacheDir(), HISTORY_FILE);
+    }
+
+    /**
+     * Most recent time-to-ready samples of one wait
+     */
+    private static class History {
+        private final Deque<Long> samples = new ArrayDeque<>();
+        private volatile long lastSeenMillis = System.currentTimeMillis();
+
+        synchronized void add(long millis) {
+            lastSeenMillis = System.currentTimeMillis();
+            samples.addLast(millis);
+            while (samples.size() > ConfigReader.getAdaptiveWaitHistorySize()) {
+                samples.removeFirst();
+            }
+        }
+
+        synchronized long[] snapshot() {
+            List<Long> copy = new ArrayList<>(samples);
+            long[] values = new long[copy.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = copy.get(i);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * History entry as stored in the history file
+     */
+    private static class StoredHistory {
+        public long lastSeen;
+        public List<Long> millis = new ArrayList<>();
+    }
+
+    /**
+     * Timeout and polling interval for one wait
+     */
+    public static class Timeout {
+        private final long timeoutMillis;
+        private final long pollingMillis;
+        private final boolean learned;
+        private final long historyMillis;
+
+        Timeout(long timeoutMillis, long pollingMillis, boolean learned, long historyMillis) {
+            this.timeoutMillis = timeoutMillis;
+            this.pollingMillis = pollingMillis;
+            this.learned = learned;
+            this.historyMillis = historyMillis;
+        }
+
+        public long getTimeoutMillis() {
+            return timeoutMillis;
+        }
+
+        public long getPollingMillis() {
+            return pollingMillis;
+        }
+
+        /**
+         * Check if the timeout comes from history rather than the global explicit wait
+         * @return true if learned
+         */
+        public boolean isLearned() {
+            return learned;
+        }
+
+        /**
+         * Get the history percentile the timeout was derived from
+         * @return Milliseconds, 0 if not learned
+         */
+        public long getHistoryMillis() {
+            return historyMillis;
+        }
+    }
+}
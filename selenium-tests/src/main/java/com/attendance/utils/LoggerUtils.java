@@ -1,71 +1,76 @@
 package com.attendance.utils;
 
 import com.attendance.config.ConfigReader;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
 
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for logging
- * Provides both console and file logging capabilities
+ * Logs through Log4j2 async loggers to console, automation.log and the
+ * per-run test_execution log (see log4j2.xml). While a test runs, its lines
+ * are held in a bounded per-thread buffer and only written out if the test
+ * fails or is skipped
  */
 public class LoggerUtils {
-    private static final Logger logger = LogManager.getLogger(LoggerUtils.class);
-    private static final String LOG_DIR = ConfigReader.getLogPath();
-    private static FileWriter fileWriter;
+    // Read by log4j2.xml as the log directory; a -Dlog.path on the command line wins over config.properties
+    private static final String LOG_PATH_PROPERTY = "log.path";
 
     static {
-        initializeFileLogger();
+        // Must run before the first logger is created, which initializes Log4j2
+        if (System.getProperty(LOG_PATH_PROPERTY) == null) {
+            System.setProperty(LOG_PATH_PROPERTY, ConfigReader.getLogPath());
+        }
     }
 
-    /**
-     * Initialize file logger
-     */
-    private static void initializeFileLogger() {
-        try {
-            File logDir = new File(LOG_DIR);
-            if (!logDir.exists()) {
-                logDir.mkdirs();
-            }
+    private static final Logger logger = LogManager.getLogger(LoggerUtils.class);
+    private static final Logger testLogger = LogManager.getLogger("TestLog");
+    private static final String TEST_NAME_KEY = "testName";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final ThreadLocal<TestLogBuffer> testLogBuffer = new ThreadLocal<>();
 
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String logFile = LOG_DIR + File.separator + "test_execution_" + timestamp + ".log";
-            fileWriter = new FileWriter(logFile, true);
-        } catch (IOException e) {
-            System.err.println("Failed to initialize file logger: " + e.getMessage());
-        }
-    }
+    // Statistics
+    private static final AtomicLong capturedTests = new AtomicLong();
+    private static final AtomicLong keptTests = new AtomicLong();
+    private static final AtomicLong keptLines = new AtomicLong();
+    private static final AtomicLong discardedLines = new AtomicLong();
 
     /**
      * Log info message
      * @param message Message to log
      */
     public static void info(String message) {
-        logger.info(message);
-        writeToFile("INFO", message);
+        if (!buffer(Level.INFO, message)) {
+            logger.info(message);
+        }
     }
 
     /**
      * Log error message
+     * Errors are buffered and also logged straight away
      * @param message Message to log
      */
     public static void error(String message) {
+        buffer(Level.ERROR, message);
         logger.error(message);
-        writeToFile("ERROR", message);
     }
 
     /**
      * Log warning message
+     * Warnings are buffered and also logged straight away
      * @param message Message to log
      */
     public static void warn(String message) {
+        buffer(Level.WARN, message);
         logger.warn(message);
-        writeToFile("WARN", message);
     }
 
     /**
@@ -73,38 +78,133 @@ public class LoggerUtils {
      * @param message Message to log
      */
     public static void debug(String message) {
-        logger.debug(message);
-        writeToFile("DEBUG", message);
+        if (!buffer(Level.DEBUG, message)) {
+            logger.debug(message);
+        }
     }
 
     /**
-     * Write log to file
-     * @param level Log level
-     * @param message Message to log
+     * Start buffering log lines of the current thread for a test
+     * Also tags every log event of the thread with the test name
+     * @param testName Unique test name, used as the per-test log file name
      */
-    private static void writeToFile(String level, String message) {
-        if (fileWriter != null) {
-            try {
-                String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
-                fileWriter.write(String.format("[%s] [%s] %s%n", timestamp, level, message));
-                fileWriter.flush();
-            } catch (IOException e) {
-                System.err.println("Failed to write to log file: " + e.getMessage());
+    public static void startTestCapture(String testName) {
+        ThreadContext.put(TEST_NAME_KEY, testName);
+        if (ConfigReader.isTestLogBufferEnabled()) {
+            testLogBuffer.set(new TestLogBuffer(ConfigReader.getTestLogBufferLines()));
+            capturedTests.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stop buffering for the current thread
+     * Kept lines are written to &lt;log.path&gt;/tests/&lt;testName&gt;.log
+     * @param keep true to write the buffered lines out, false to discard them
+     * @return Buffered log text if kept, otherwise null
+     */
+    public static String finishTestCapture(boolean keep) {
+        TestLogBuffer buffer = testLogBuffer.get();
+        testLogBuffer.remove();
+        try {
+            if (buffer == null) {
+                return null;
+            }
+            if (!keep) {
+                discardedLines.addAndGet(buffer.size());
+                return null;
             }
+            keptTests.incrementAndGet();
+            keptLines.addAndGet(buffer.size());
+            String text = buffer.toText();
+            // Routed to the per-test file by the testName context key
+            testLogger.info(text);
+            return text;
+        } finally {
+            ThreadContext.remove(TEST_NAME_KEY);
         }
     }
 
     /**
-     * Close file logger
+     * Get the name of the test the current thread is running
+     * @return Test name passed to {@link #startTestCapture}, or null outside of a test
+     */
+    public static String getCurrentTestName() {
+        return ThreadContext.get(TEST_NAME_KEY);
+    }
+
+    /**
+     * Get path of the per-test log file written for a kept test
+     * @param testName Test name passed to {@link #startTestCapture}
+     * @return Per-test log file path
+     */
+    public static String getTestLogPath(String testName) {
+        // Same directory as the routing appender's ${logDir}/tests in log4j2.xml
+        return System.getProperty(LOG_PATH_PROPERTY) + File.separator + "tests" + File.separator + testName + ".log";
+    }
+
+    /**
+     * Get test log buffering statistics summary
+     * @return Human readable statistics
+     */
+    public static String getBufferSummary() {
+        return String.format("Test log buffering: tests=%d, kept=%d, keptLines=%d, discardedLines=%d",
+                capturedTests.get(), keptTests.get(), keptLines.get(), discardedLines.get());
+    }
+
+    /**
+     * Drain queued log events and close log files
+     * Nothing is logged after this call
      */
     public static void closeLogger() {
-        if (fileWriter != null) {
-            try {
-                fileWriter.close();
-            } catch (IOException e) {
-                System.err.println("Failed to close file logger: " + e.getMessage());
+        LogManager.shutdown();
+    }
+
+    /**
+     * Add a line to the current thread's test buffer
+     * @return true if the line was buffered
+     */
+    private static boolean buffer(Level level, String message) {
+        TestLogBuffer buffer = testLogBuffer.get();
+        if (buffer == null || !logger.isEnabled(level)) {
+            return false;
+        }
+        buffer.add(String.format("[%s] [%s] %s", LocalTime.now().format(TIME_FORMAT), level, message));
+        return true;
+    }
+
+    /**
+     * Bounded buffer keeping the most recent lines of one test
+     */
+    private static class TestLogBuffer {
+        private final Deque<String> lines = new ArrayDeque<>();
+        private final int maxLines;
+        private int droppedLines;
+
+        TestLogBuffer(int maxLines) {
+            this.maxLines = maxLines;
+        }
+
+        void add(String line) {
+            if (lines.size() == maxLines) {
+                lines.removeFirst();
+                droppedLines++;
+            }
+            lines.addLast(line);
+        }
+
+        int size() {
+            return lines.size() + droppedLines;
+        }
+
+        String toText() {
+            StringBuilder text = new StringBuilder();
+            if (droppedLines > 0) {
+                text.append("... ").append(droppedLines).append(" earlier lines dropped").append(System.lineSeparator());
+            }
+            for (String line : lines) {
+                text.append(line).append(System.lineSeparator());
             }
+            return text.toString();
         }
     }
 }
-
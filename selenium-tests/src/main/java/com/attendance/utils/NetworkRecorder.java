@@ -0,0 +1,532 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Records every request of a test through DevTools Network events
+ * Each test gets a compact HAR (timing phases, status and sizes, no headers or
+ * bodies), and the suite reports the slowest endpoints by p95 with the server
+ * wait separated from the transfer. Opt-in through network.record.enabled;
+ * Chromium only
+ */
+public class NetworkRecorder {
+    private static final ThreadLocal<NetworkRecorder> currentRecorder = new ThreadLocal<>();
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    // Numeric and UUID path segments are grouped, e.g. /api/admin/projects/:id
+    private static final Pattern ID_SEGMENT =
+            Pattern.compile("/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private static final Event<Map<String, Object>> REQUEST_WILL_BE_SENT =
+            new Event<>("Network.requestWillBeSent", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> RESPONSE_RECEIVED =
+            new Event<>("Network.responseReceived", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> DATA_RECEIVED =
+            new Event<>("Network.dataReceived", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FINISHED =
+            new Event<>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FAILED =
+            new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE));
+
+    private static final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    // Statistics
+    private static final AtomicLong sessions = new AtomicLong();
+    private static final AtomicLong recordedRequests = new AtomicLong();
+    private static final AtomicLong failedRequests = new AtomicLong();
+    private static final AtomicLong harFiles = new AtomicLong();
+
+    private final DevTools devTools;
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+
+    private NetworkRecorder(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Check if network recording is enabled
+     * @return true if tests record their requests
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isNetworkRecordEnabled();
+    }
+
+    /**
+     * Start recording the requests of the current thread's browser
+     * @param driver WebDriver instance
+     */
+    public static void start(WebDriver driver) {
+        if (!isEnabled() || !(driver instanceof HasDevTools) || currentRecorder.get() != null) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            NetworkRecorder recorder = new NetworkRecorder(devTools);
+            DevToolsListeners.add(devTools, REQUEST_WILL_BE_SENT, recorder, recorder::onRequest);
+            DevToolsListeners.add(devTools, RESPONSE_RECEIVED, recorder, recorder::onResponse);
+            DevToolsListeners.add(devTools, DATA_RECEIVED, recorder, recorder::onData);
+            DevToolsListeners.add(devTools, LOADING_FINISHED, recorder, recorder::onFinished);
+            DevToolsListeners.add(devTools, LOADING_FAILED, recorder, recorder::onFailed);
+            devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+            currentRecorder.set(recorder);
+            sessions.incrementAndGet();
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Network recording not started: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop recording, write the test's HAR file and attach its path to the report
+     * @param name Recording name, usually the test name
+     * @return Completed requests in start order, empty if nothing was recorded
+     */
+    public static List<Entry> stop(String name) {
+        NetworkRecorder recorder = currentRecorder.get();
+        currentRecorder.remove();
+        if (recorder == null) {
+            return Collections.emptyList();
+        }
+        try {
+            recorder.devTools.send(new Command<>("Network.disable", Collections.emptyMap()));
+        } catch (WebDriverException e) {
+            LoggerUtils.debug("Failed to disable network events: " + e.getMessage());
+        }
+        // Listeners are per test; the session may be reused by the next test and shared with other recorders
+        DevToolsListeners.remove(recorder.devTools, recorder);
+
+        List<Entry> completed;
+        synchronized (recorder) {
+            completed = new ArrayList<>(recorder.entries);
+        }
+        completed.sort(Comparator.comparingDouble(entry -> entry.startedSeconds));
+        for (Entry entry : completed) {
+            endpoints.computeIfAbsent(entry.getEndpoint(), key -> new EndpointStats()).add(entry);
+        }
+        recordedRequests.addAndGet(completed.size());
+        if (!completed.isEmpty()) {
+            String path = writeHar(name, completed);
+            if (path != null) {
+                ExtentReportManager.getTest().info("Network HAR (" + completed.size() + " requests): " + path);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Write the slowest endpoints by p95 to network_endpoints_&lt;runId&gt;.json and log the top ones
+     * @return Report path, or null if no request was recorded
+     */
+    public static String writeReport() {
+        if (endpoints.isEmpty()) {
+            return null;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<String, EndpointStats> endpoint : endpoints.entrySet()) {
+            rows.add(endpoint.getValue().summarize(endpoint.getKey()));
+        }
+        rows.sort(Comparator.comparingDouble(row -> -((Number) row.get("p95Millis")).doubleValue()));
+
+        LoggerUtils.info(String.format("%-60s %6s %9s %9s %13s %9s %6s", "Slowest endpoints", "count",
+                "p50 ms", "p95 ms", "p95 wait ms", "avg KB", "errors"));
+        for (Map<String, Object> row : rows.subList(0, Math.min(rows.size(), ConfigReader.getNetworkReportTop()))) {
+            LoggerUtils.info(String.format("%-60s %6d %9.1f %9.1f %13.1f %9.1f %6d", row.get("endpoint"),
+                    row.get("count"), row.get("p50Millis"), row.get("p95Millis"), row.get("p95WaitMillis"),
+                    ((Number) row.get("avgResponseBytes")).doubleValue() / 1024, row.get("errors")));
+        }
+        File file = new File(ExtentReportManager.getReportDir(),
+                "network_endpoints_" + ExtentReportManager.getRunId() + ".json");
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, rows);
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write network endpoint report: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get network recording statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("Network recording: sessions=%d, requests=%d, failed=%d, harFiles=%d, endpoints=%d",
+                sessions.get(), recordedRequests.get(), failedRequests.get(), harFiles.get(), endpoints.size());
+    }
+
+    /**
+     * Handlers below run on the DevTools connection thread
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized void onRequest(Map<String, Object> event) {
+        String requestId = (String) event.get("requestId");
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        Entry redirected = pending.remove(requestId);
+        if (redirected != null && event.get("redirectResponse") instanceof Map) {
+            // A redirect reuses the request id; close the previous hop
+            redirected.applyResponse((Map<String, Object>) event.get("redirectResponse"));
+            redirected.finish(toDouble(event.get("timestamp")), redirected.responseBytes);
+            entries.add(redirected);
+        }
+        Entry entry = new Entry((String) request.get("method"), (String) request.get("url"),
+                String.valueOf(event.get("type")), toDouble(event.get("wallTime")), toDouble(event.get("timestamp")));
+        Object postData = request.get("postData");
+        entry.requestBytes = postData instanceof String ? ((String) postData).length() : 0;
+        entry.requestBodyHash = postData instanceof String ? postData.hashCode() : 0;
+        entry.documentUrl = (String) event.get("documentURL");
+        pending.put(requestId, entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onResponse(Map<String, Object> event) {
+        Entry entry = pending.get((String) event.get("requestId"));
+        if (entry != null) {
+            entry.applyResponse((Map<String, Object>) event.get("response"));
+        }
+    }
+
+    private synchronized void onData(Map<String, Object> event) {
+        Entry entry = pending.get((String) event.get("requestId"));
+        if (entry != null) {
+            entry.contentBytes += (long) toDouble(event.get("dataLength"));
+        }
+    }
+
+    private synchronized void onFinished(Map<String, Object> event) {
+        Entry entry = pending.remove((String) event.get("requestId"));
+        if (entry != null) {
+            entry.finish(toDouble(event.get("timestamp")), (long) toDouble(event.get("encodedDataLength")));
+            entries.add(entry);
+        }
+    }
+
+    private synchronized void onFailed(Map<String, Object> event) {
+        Entry entry = pending.remove((String) event.get("requestId"));
+        if (entry != null) {
+            entry.error = String.valueOf(event.get("errorText"));
+            entry.finish(toDouble(event.get("timestamp")), entry.responseBytes);
+            entries.add(entry);
+            failedRequests.incrementAndGet();
+        }
+    }
+
+    private static String writeHar(String name, List<Entry> completed) {
+        List<Map<String, Object>> harEntries = new ArrayList<>();
+        for (Entry entry : completed) {
+            harEntries.add(entry.toHar());
+        }
+        Map<String, Object> creator = new LinkedHashMap<>();
+        creator.put("name", "attendance-selenium-tests");
+        creator.put("version", "1.0");
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", creator);
+        log.put("entries", harEntries);
+
+        File dir = new File(ConfigReader.getNetworkHarPath());
+        dir.mkdirs();
+        File file = new File(dir, name + "_" + ExtentReportManager.getRunId() + ".har");
+        try {
+            objectMapper.writeValue(file, Collections.singletonMap("log", log));
+            harFiles.incrementAndGet();
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write HAR file: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static double percentile(List<Double> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+    }
+
+    /**
+     * One request with its response and timing phases
+     * Phase durations are milliseconds, -1 when the phase did not apply (HAR convention)
+     */
+    public static class Entry {
+        private final String method;
+        private final String url;
+        private final String resourceType;
+        private final double wallTimeSeconds;
+        private final double startedSeconds;
+        private final Map<String, Double> timings = new LinkedHashMap<>();
+        private int status;
+        private String statusText = "";
+        private String mimeType = "";
+        private String protocol = "";
+        private String documentUrl;
+        private long requestBytes;
+        private int requestBodyHash;
+        private long responseBytes;
+        private long contentBytes;
+        private double timeMillis;
+        private double responseTimingRequestSeconds;
+        private double receiveHeadersEndMillis;
+        private String error;
+
+        Entry(String method, String url, String resourceType, double wallTimeSeconds, double startedSeconds) {
+            this.method = method;
+            this.url = url;
+            this.resourceType = resourceType;
+            this.wallTimeSeconds = wallTimeSeconds;
+            this.startedSeconds = startedSeconds;
+        }
+
+        @SuppressWarnings("unchecked")
+        void applyResponse(Map<String, Object> response) {
+            status = (int) toDouble(response.get("status"));
+            statusText = String.valueOf(response.getOrDefault("statusText", ""));
+            mimeType = String.valueOf(response.getOrDefault("mimeType", ""));
+            protocol = String.valueOf(response.getOrDefault("protocol", ""));
+            responseBytes = (long) toDouble(response.get("encodedDataLength"));
+            if (!(response.get("timing") instanceof Map)) {
+                return;
+            }
+            Map<String, Object> timing = (Map<String, Object>) response.get("timing");
+            responseTimingRequestSeconds = toDouble(timing.get("requestTime"));
+            double dnsStart = toDouble(timing.get("dnsStart"));
+            double connectStart = toDouble(timing.get("connectStart"));
+            double sslStart = toDouble(timing.get("sslStart"));
+            double sendStart = toDouble(timing.get("sendStart"));
+            double sendEnd = toDouble(timing.get("sendEnd"));
+            receiveHeadersEndMillis = toDouble(timing.get("receiveHeadersEnd"));
+            double firstPhase = dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : sendStart;
+            // Time from request start until the request time the phases are relative to
+            double queued = Math.max(0, (responseTimingRequestSeconds - startedSeconds) * 1000);
+            timings.put("blocked", queued + Math.max(0, firstPhase));
+            timings.put("dns", dnsStart >= 0 ? toDouble(timing.get("dnsEnd")) - dnsStart : -1);
+            timings.put("connect", connectStart >= 0 ? toDouble(timing.get("connectEnd")) - connectStart : -1);
+            timings.put("ssl", sslStart >= 0 ? toDouble(timing.get("sslEnd")) - sslStart : -1);
+            timings.put("send", Math.max(0, sendEnd - sendStart));
+            timings.put("wait", Math.max(0, receiveHeadersEndMillis - sendEnd));
+        }
+
+        void finish(double finishedSeconds, long encodedBytes) {
+            timeMillis = Math.max(0, (finishedSeconds - startedSeconds) * 1000);
+            responseBytes = Math.max(responseBytes, encodedBytes);
+            if (responseTimingRequestSeconds > 0) {
+                timings.put("receive", Math.max(0,
+                        (finishedSeconds - responseTimingRequestSeconds) * 1000 - receiveHeadersEndMillis));
+            }
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Get the request grouped by method and path with ids replaced
+         * @return Endpoint such as GET /api/admin/projects/:id
+         */
+        public String getEndpoint() {
+            String path;
+            try {
+                path = URI.create(url).getRawPath();
+            } catch (IllegalArgumentException e) {
+                path = url.split("[?#]", 2)[0];
+            }
+            return method + " " + ID_SEGMENT.matcher(path == null || path.isEmpty() ? "/" : path).replaceAll("/:id");
+        }
+
+        /**
+         * Get the route of the page that made the request
+         * @return Route such as /attendance, empty if unknown
+         */
+        public String getPageRoute() {
+            return documentUrl == null ? "" : PagePerformance.toRoute(documentUrl);
+        }
+
+        /**
+         * Get a key that is equal for identical requests
+         * @return Method, URL and request body hash
+         */
+        public String getRequestKey() {
+            return method + " " + url + " " + requestBodyHash;
+        }
+
+        /**
+         * Get the DevTools resource type
+         * @return Type such as XHR, Fetch, Document or Script
+         */
+        public String getResourceType() {
+            return resourceType;
+        }
+
+        /**
+         * Get the HTTP status
+         * @return Status code, 0 if no response was received
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+
+        /**
+         * Get the start time
+         * @return Epoch milliseconds
+         */
+        public long getStartedMillis() {
+            return Math.round(wallTimeSeconds * 1000);
+        }
+
+        /**
+         * Get the total time from request start to the last byte
+         * @return Milliseconds
+         */
+        public double getTimeMillis() {
+            return timeMillis;
+        }
+
+        /**
+         * Get the time spent waiting for the response headers, i.e. server time
+         * @return Milliseconds, 0 if unknown
+         */
+        public double getWaitMillis() {
+            return timings.getOrDefault("wait", 0.0);
+        }
+
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        /**
+         * Get the bytes transferred for the response, headers included
+         * @return Encoded response size
+         */
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        /**
+         * Get the decoded response body size
+         * @return Bytes after decompression
+         */
+        public long getContentBytes() {
+            return contentBytes;
+        }
+
+        /**
+         * Get the network error of a failed request
+         * @return Error text, or null if the request completed
+         */
+        public String getError() {
+            return error;
+        }
+
+        Map<String, Object> toHar() {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("method", method);
+            request.put("url", url);
+            request.put("httpVersion", protocol);
+            request.put("cookies", Collections.emptyList());
+            request.put("headers", Collections.emptyList());
+            request.put("queryString", Collections.emptyList());
+            request.put("headersSize", -1);
+            request.put("bodySize", requestBytes);
+
+            Map<String, Object> content = new LinkedHashMap<>();
+            content.put("size", contentBytes);
+            content.put("mimeType", mimeType);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", status);
+            response.put("statusText", statusText);
+            response.put("httpVersion", protocol);
+            response.put("cookies", Collections.emptyList());
+            response.put("headers", Collections.emptyList());
+            response.put("content", content);
+            response.put("redirectURL", "");
+            response.put("headersSize", -1);
+            response.put("bodySize", responseBytes);
+
+            Map<String, Object> harTimings = new LinkedHashMap<>();
+            for (String phase : new String[] {"blocked", "dns", "connect", "ssl", "send", "wait", "receive"}) {
+                harTimings.put(phase, timings.getOrDefault(phase, -1.0));
+            }
+            Map<String, Object> har = new LinkedHashMap<>();
+            har.put("startedDateTime", Instant.ofEpochMilli(getStartedMillis()).toString());
+            har.put("time", timeMillis);
+            har.put("request", request);
+            har.put("response", response);
+            har.put("cache", Collections.emptyMap());
+            har.put("timings", harTimings);
+            har.put("_resourceType", resourceType);
+            if (error != null) {
+                har.put("_error", error);
+            }
+            return har;
+        }
+    }
+
+    /**
+     * Durations of one endpoint over the run
+     */
+    private static class EndpointStats {
+        private final List<Double> times = new ArrayList<>();
+        private final List<Double> waits = new ArrayList<>();
+        private long responseBytes;
+        private long errors;
+
+        synchronized void add(Entry entry) {
+            times.add(entry.getTimeMillis());
+            waits.add(entry.getWaitMillis());
+            responseBytes += entry.getResponseBytes();
+            if (entry.getError() != null || entry.getStatus() >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized Map<String, Object> summarize(String endpoint) {
+            List<Double> sortedTimes = new ArrayList<>(times);
+            List<Double> sortedWaits = new ArrayList<>(waits);
+            Collections.sort(sortedTimes);
+            Collections.sort(sortedWaits);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("count", times.size());
+            row.put("p50Millis", percentile(sortedTimes, 50));
+            row.put("p95Millis", percentile(sortedTimes, 95));
+            row.put("maxMillis", sortedTimes.get(sortedTimes.size() - 1));
+            row.put("p95WaitMillis", percentile(sortedWaits, 95));
+            row.put("avgResponseBytes", responseBytes / times.size());
+            row.put("errors", errors);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the browser's own performance data for pages opened by the page objects
+ * Navigation Timing, Resource Timing, LCP, CLS and total blocking time are read
+ * back with one script call. Observers are registered before any page script on
+ * Chromium; elsewhere buffered entries are read when collecting. Values describe
+ * the document since its last full navigation
+ */
+public class PagePerformance {
+    private static final String[] METRICS = {"ttfb", "domContentLoaded", "load", "fcp", "lcp", "cls", "tbt",
+            "transferBytes", "resourceCount"};
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // Accumulates LCP, CLS and long task blocking time from the start of the document
+    private static final String OBSERVER_SCRIPT =
+            "(function () {"
+            + "  if (window.__pagePerf || !window.PerformanceObserver) { return; }"
+            + "  var perf = window.__pagePerf = { lcp: 0, cls: 0, tbt: 0, longTasks: 0 };"
+            + "  function observe(type, handle) {"
+            + "    try { new PerformanceObserver(function (list) { list.getEntries().forEach(handle); })"
+            + "        .observe({ type: type, buffered: true }); } catch (e) { }"
+            + "  }"
+            + "  observe('largest-contentful-paint', function (e) { perf.lcp = e.renderTime || e.loadTime || e.startTime; });"
+            + "  observe('layout-shift', function (e) { if (!e.hadRecentInput) { perf.cls += e.value; } });"
+            + "  observe('longtask', function (e) { perf.longTasks++; perf.tbt += Math.max(0, e.duration - 50); });"
+            + "})();";
+
+    // Without preinstalled observers the buffered entries are read synchronously instead
+    private static final String COLLECT_SCRIPT =
+            "var preinstalled = !!window.__pagePerf;"
+            + OBSERVER_SCRIPT
+            + "var perf = window.__pagePerf || {};"
+            + "function takeBuffered(type) {"
+            + "  try { var observer = new PerformanceObserver(function () { });"
+            + "    observer.observe({ type: type, buffered: true }); var entries = observer.takeRecords();"
+            + "    observer.disconnect(); return entries; } catch (e) { return []; }"
+            + "}"
+            + "if (!preinstalled) {"
+            + "  perf = { lcp: 0, cls: 0, tbt: 0, longTasks: 0 };"
+            + "  takeBuffered('largest-contentful-paint').forEach(function (e) {"
+            + "    perf.lcp = e.renderTime || e.loadTime || e.startTime; });"
+            + "  takeBuffered('layout-shift').forEach(function (e) { if (!e.hadRecentInput) { perf.cls += e.value; } });"
+            + "  takeBuffered('longtask').forEach(function (e) {"
+            + "    perf.longTasks++; perf.tbt += Math.max(0, e.duration - 50); });"
+            + "}"
+            + "var nav = performance.getEntriesByType('navigation')[0] || {};"
+            + "var fcp = performance.getEntriesByName('first-contentful-paint')[0];"
+            + "var resources = performance.getEntriesByType('resource');"
+            + "var transfer = nav.transferSize || 0;"
+            + "resources.forEach(function (r) { transfer += r.transferSize || 0; });"
+            + "var slowest = resources.slice().sort(function (a, b) { return b.duration - a.duration; }).slice(0, 5)"
+            + "  .map(function (r) { return { name: r.name, durationMs: r.duration, transferBytes: r.transferSize || 0 }; });"
+            + "return { url: location.href,"
+            + "  ttfb: nav.responseStart || 0, domContentLoaded: nav.domContentLoadedEventEnd || 0,"
+            + "  load: nav.loadEventEnd || 0, fcp: fcp ? fcp.startTime : 0,"
+            + "  lcp: perf.lcp || 0, cls: perf.cls || 0, tbt: perf.tbt || 0, longTasks: perf.longTasks || 0,"
+            + "  transferBytes: transfer, resourceCount: resources.length, slowestResources: slowest };";
+
+    private static final ThreadLocal<List<PageTimings>> testTimings = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, List<PageTimings>> runTimings = new ConcurrentHashMap<>();
+
+    /**
+     * Check if page performance capture is enabled
+     * @return true if page objects collect timings when opened
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isPagePerformanceEnabled();
+    }
+
+    /**
+     * Register the performance observers to run before any page script
+     * Chromium only; other browsers fall back to buffered entries when collecting
+     * @param driver WebDriver instance
+     */
+    public static void installObservers(WebDriver driver) {
+        if (driver instanceof HasCdp && isEnabled()) {
+            try {
+                Map<String, Object> params = new HashMap<>();
+                params.put("source", OBSERVER_SCRIPT);
+                ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", params);
+            } catch (WebDriverException e) {
+                LoggerUtils.debug("Could not preinstall performance observers: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Collect timings of the current page and attach them to the running test
+     * @param driver WebDriver instance
+     * @param page Page name, usually the page object class
+     * @return Collected timings, or null if the page could not be measured
+     */
+    @SuppressWarnings("unchecked")
+    public static PageTimings capture(WebDriver driver, String page) {
+        Map<String, Object> values;
+        try {
+            values = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(COLLECT_SCRIPT);
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Could not collect page performance for " + page + ": " + e.getMessage());
+            return null;
+        }
+        PageTimings timings = new PageTimings(page, values);
+        testTimings.get().add(timings);
+        runTimings.computeIfAbsent(page, key -> Collections.synchronizedList(new ArrayList<>())).add(timings);
+
+        LoggerUtils.info("Page performance " + timings);
+        ExtentReportManager.getTest().info(MarkupHelper.createCodeBlock(timings.toJson()));
+        return timings;
+    }
+
+    /**
+     * Get and clear the timings collected by the current test thread
+     * @return Timings in collection order
+     */
+    public static List<PageTimings> finishTest() {
+        List<PageTimings> timings = testTimings.get();
+        testTimings.remove();
+        return timings;
+    }
+
+    /**
+     * Write per-page p50/p95 of every metric to page_performance_&lt;runId&gt;.json
+     * @return Report path, or null if no page was measured
+     */
+    public static String writeReport() {
+        if (runTimings.isEmpty()) {
+            return null;
+        }
+        Map<String, Map<String, Object>> report = new TreeMap<>();
+        for (Map.Entry<String, List<PageTimings>> page : runTimings.entrySet()) {
+            List<PageTimings> samples;
+            synchronized (page.getValue()) {
+                samples = new ArrayList<>(page.getValue());
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("samples", samples.size());
+            for (String metric : METRICS) {
+                List<Double> values = new ArrayList<>();
+                for (PageTimings timings : samples) {
+                    values.add(timings.get(metric));
+                }
+                Collections.sort(values);
+                Map<String, Double> percentiles = new LinkedHashMap<>();
+                percentiles.put("p50", percentile(values, 50));
+                percentiles.put("p95", percentile(values, 95));
+                percentiles.put("max", values.get(values.size() - 1));
+                summary.put(metric, percentiles);
+            }
+            report.put(page.getKey(), summary);
+            LoggerUtils.info("Page performance " + page.getKey() + ": " + summary);
+        }
+        File file = new File(ExtentReportManager.getReportDir(), "page_performance_" + ExtentReportManager.getRunId() + ".json");
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, report);
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write page performance report: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get the route of a page URL relative to the base URL
+     * @param url Page URL
+     * @return Route such as /attendance, without query or fragment
+     */
+    static String toRoute(String url) {
+        String baseUrl = ConfigReader.getBaseUrl();
+        String route;
+        if (url.startsWith(baseUrl)) {
+            route = url.substring(baseUrl.length());
+        } else {
+            try {
+                route = URI.create(url).getRawPath();
+            } catch (IllegalArgumentException e) {
+                route = url;
+            }
+        }
+        route = route == null ? "" : route.split("[?#]", 2)[0];
+        if (!route.startsWith("/")) {
+            route = "/" + route;
+        }
+        return route.length() > 1 && route.endsWith("/") ? route.substring(0, route.length() - 1) : route;
+    }
+
+    private static double percentile(List<Double> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+    }
+
+    /**
+     * Performance data of one page load
+     * Times are milliseconds since navigation start, CLS is unitless
+     */
+    public static class PageTimings {
+        private final String page;
+        private final Map<String, Object> values;
+
+        PageTimings(String page, Map<String, Object> values) {
+            this.page = page;
+            this.values = values;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getUrl() {
+            return String.valueOf(values.get("url"));
+        }
+
+        /**
+         * Get the route of the page relative to the base URL
+         * @return Route such as /attendance, without query or fragment
+         */
+        public String getRoute() {
+            return toRoute(getUrl());
+        }
+
+        /**
+         * Get a numeric metric, e.g. lcp, cls, tbt, ttfb, load or transferBytes
+         * @param metric Metric name
+         * @return Metric value, 0 if the browser did not report it
+         */
+        public double get(String metric) {
+            Object value = values.get(metric);
+            return value instanceof Number ? ((Number) value).doubleValue() : 0;
+        }
+
+        /**
+         * Get the slowest resources of the page
+         * @return Resource name, duration and transfer size, slowest first
+         */
+        @SuppressWarnings("unchecked")
+        public List<Map<String, Object>> getSlowestResources() {
+            Object resources = values.get("slowestResources");
+            return resources instanceof List ? (List<Map<String, Object>>) resources : Collections.emptyList();
+        }
+
+        String toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("page", page);
+            json.putAll(values);
+            try {
+                return objectMapper.writeValueAsString(json);
+            } catch (IOException e) {
+                return json.toString();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: ttfb=%.0fms, fcp=%.0fms, lcp=%.0fms, cls=%.3f, tbt=%.0fms, load=%.0fms, "
+                            + "transfer=%.0fKB, resources=%.0f",
+                    page, get("ttfb"), get("fcp"), get("lcp"), get("cls"), get("tbt"), get("load"),
+                    get("transferBytes") / 1024, get("resourceCount"));
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.testng.ITestResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enforces page and journey performance at the end of each test
+ * Every measured value is checked against two limits: the hard budget from the
+ * budget file, per route and per journey, and the baseline of the last green run
+ * (mean plus a number of standard deviations, never less than a relative
+ * tolerance). Violations are listed in a table on the Extent test and either fail
+ * the test or only warn, depending on perf.budget.mode
+ */
+public class PerformanceBudget {
+    private static final String BASELINE_FILE = "perf-baseline.json";
+    // Page metrics compared with the baseline; counters such as CLS or blocking time are often 0 and too noisy
+    private static final String[] BASELINE_METRICS = {"ttfb", "domContentLoaded", "load", "lcp", "transferBytes"};
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final JsonNode budgets = loadBudgets();
+    private static final Map<String, Baseline> baseline = loadBaseline();
+    private static final Map<String, List<Double>> runSamples = new ConcurrentHashMap<>();
+
+    // A run only becomes the new baseline if no test failed and nothing regressed
+    private static final AtomicBoolean green = new AtomicBoolean(true);
+
+    // Statistics
+    private static final AtomicLong checkedTests = new AtomicLong();
+    private static final AtomicLong budgetViolations = new AtomicLong();
+    private static final AtomicLong baselineRegressions = new AtomicLong();
+    private static final AtomicLong failedTests = new AtomicLong();
+
+    /**
+     * Check the page timings and transactions of the finished test method
+     * Clears the per-test data of PagePerformance and TransactionTimer. In fail
+     * mode a passed test with violations is turned into a failure, so this has to
+     * run before the outcome is reported (see PerformanceBudgetListener)
+     * @param result Result of the finished test
+     * @return Violations found, empty if within budget
+     */
+    public static List<Violation> checkTest(ITestResult result) {
+        List<PagePerformance.PageTimings> pages = PagePerformance.finishTest();
+        Map<String, List<Double>> transactions = TransactionTimer.finishTest();
+        if (result.getStatus() != ITestResult.SUCCESS) {
+            green.set(false);
+        }
+        if (!ConfigReader.isPerformanceBudgetEnabled() || (pages.isEmpty() && transactions.isEmpty())) {
+            return Collections.emptyList();
+        }
+        checkedTests.incrementAndGet();
+
+        List<Violation> violations = new ArrayList<>();
+        for (PagePerformance.PageTimings timings : pages) {
+            String route = timings.getRoute();
+            JsonNode routeBudget = budgets.path("routes").path(route);
+            Iterator<Map.Entry<String, JsonNode>> limits = routeBudget.fields();
+            while (limits.hasNext()) {
+                Map.Entry<String, JsonNode> limit = limits.next();
+                checkBudget(violations, route, limit.getKey(), timings.get(limit.getKey()), limit.getValue().asDouble());
+            }
+            for (String metric : BASELINE_METRICS) {
+                checkBaseline(violations, route, metric, timings.get(metric));
+            }
+        }
+        for (Map.Entry<String, List<Double>> transaction : transactions.entrySet()) {
+            String journey = transaction.getKey();
+            double slowestMillis = 0;
+            for (double millis : transaction.getValue()) {
+                checkBaseline(violations, journey, "durationMillis", millis);
+                slowestMillis = Math.max(slowestMillis, millis);
+            }
+            // Only this test's own runs are checked here; the run p95 is checked in finishSuite, so one
+            // slow test does not turn every later test of the journey into a violation
+            JsonNode limit = budgets.path("journeys").path(journey).path("p95Millis");
+            if (limit.isNumber() && !transaction.getValue().isEmpty()) {
+                checkBudget(violations, journey, "durationMillis", slowestMillis, limit.asDouble());
+            }
+        }
+        report(result, violations);
+        return violations;
+    }
+
+    /**
+     * Check journey p95 over the whole run and store the baseline if the run was green
+     * @return Violations of the journey p95 budgets
+     */
+    public static List<Violation> finishSuite() {
+        List<Violation> violations = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> journeys = budgets.path("journeys").fields();
+        while (journeys.hasNext()) {
+            Map.Entry<String, JsonNode> journey = journeys.next();
+            Histogram histogram = TransactionTimer.getHistogram(journey.getKey());
+            JsonNode limit = journey.getValue().path("p95Millis");
+            if (histogram != null && limit.isNumber()) {
+                checkBudget(violations, journey.getKey(), "p95Millis",
+                        histogram.getValueAtPercentile(95) / 1000.0, limit.asDouble());
+            }
+        }
+        for (Violation violation : violations) {
+            LoggerUtils.warn("Performance budget exceeded over the run: " + violation);
+        }
+        if (!violations.isEmpty()) {
+            green.set(false);
+        }
+        if (green.get() && !runSamples.isEmpty()) {
+            saveBaseline();
+        } else if (!runSamples.isEmpty()) {
+            LoggerUtils.info("Performance baseline kept; run was not green");
+        }
+        return violations;
+    }
+
+    /**
+     * Get budget check statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        return String.format("Performance budget: tests=%d, budgetViolations=%d, baselineRegressions=%d, "
+                        + "failedTests=%d, baselineMetrics=%d",
+                checkedTests.get(), budgetViolations.get(), baselineRegressions.get(), failedTests.get(),
+                baseline.size());
+    }
+
+    private static void checkBudget(List<Violation> violations, String scope, String metric, double value,
+                                    double limit) {
+        if (value > limit) {
+            budgetViolations.incrementAndGet();
+            violations.add(new Violation("budget", scope, metric, value, limit, baselineMean(scope, metric)));
+        }
+    }
+
+    private static void checkBaseline(List<Violation> violations, String scope, String metric, double value) {
+        String key = scope + " " + metric;
+        runSamples.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(value);
+        Baseline stored = baseline.get(key);
+        if (!ConfigReader.isPerformanceBaselineEnabled() || stored == null
+                || stored.count < ConfigReader.getPerformanceBaselineMinSamples()) {
+            return;
+        }
+        double limit = Math.max(stored.mean + ConfigReader.getPerformanceBaselineSigma() * stored.stddev,
+                stored.mean * (1 + ConfigReader.getPerformanceBaselineTolerance()));
+        if (value > limit) {
+            baselineRegressions.incrementAndGet();
+            violations.add(new Violation("baseline", scope, metric, value, limit, stored.mean));
+        }
+    }
+
+    private static double baselineMean(String scope, String metric) {
+        Baseline stored = baseline.get(scope + " " + metric);
+        return stored == null ? Double.NaN : stored.mean;
+    }
+
+    private static void report(ITestResult result, List<Violation> violations) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        green.set(false);
+        String[][] table = new String[violations.size() + 1][];
+        table[0] = new String[] {"Check", "Scope", "Metric", "Value", "Limit", "Baseline mean", "Over by"};
+        for (int i = 0; i < violations.size(); i++) {
+            table[i + 1] = violations.get(i).toRow();
+        }
+        boolean fail = "fail".equalsIgnoreCase(ConfigReader.getPerformanceBudgetMode());
+        ExtentReportManager.getTest().log(fail ? Status.FAIL : Status.WARNING, MarkupHelper.createTable(table));
+        LoggerUtils.warn(violations.size() + " performance violation(s) in " + result.getMethod().getMethodName()
+                + ": " + violations);
+
+        if (fail && result.getStatus() == ITestResult.SUCCESS) {
+            failedTests.incrementAndGet();
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Performance budget exceeded: " + violations));
+        }
+    }
+
+    private static JsonNode loadBudgets() {
+        File file = new File(ConfigReader.getPerformanceBudgetFile());
+        if (!file.exists()) {
+            if (ConfigReader.isPerformanceBudgetEnabled()) {
+                LoggerUtils.warn("Performance budget file not found, no budgets are checked: " + file.getAbsolutePath());
+            }
+            return objectMapper.createObjectNode();
+        }
+        try {
+            return objectMapper.readTree(file);
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to read performance budgets: " + file + " - " + e.getMessage());
+            throw new RuntimeException("Failed to read performance budgets: " + file, e);
+        }
+    }
+
+    private static Map<String, Baseline> loadBaseline() {
+        File file = getBaselineFile();
+        if (file.exists()) {
+            try {
+                return new ConcurrentHashMap<>(objectMapper.readValue(file,
+                        new TypeReference<Map<String, Baseline>>() { }));
+            } catch (IOException e) {
+                LoggerUtils.warn("Failed to read performance baseline: " + e.getMessage());
+            }
+        }
+        return new ConcurrentHashMap<>();
+    }
+
+    private static void saveBaseline() {
+        Map<String, Baseline> updated = new TreeMap<>(baseline);
+        for (Map.Entry<String, List<Double>> entry : runSamples.entrySet()) {
+            List<Double> samples;
+            synchronized (entry.getValue()) {
+                samples = new ArrayList<>(entry.getValue());
+            }
+            updated.put(entry.getKey(), Baseline.of(samples));
+        }
+        File file = getBaselineFile();
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, updated);
+            LoggerUtils.info("Performance baseline updated: " + runSamples.size() + " metrics");
+        } catch (IOException e) {
+            LoggerUtils.warn("Failed to write performance baseline: " + e.getMessage());
+        }
+    }
+
+    private static File getBaselineFile() {
+        return new File(ConfigReader.getCacheDir(), BASELINE_FILE);
+    }
+
+    /**
+     * Mean and standard deviation of one metric in the baseline run
+     */
+    private static class Baseline {
+        public int count;
+        public double mean;
+        public double stddev;
+
+        static Baseline of(List<Double> samples) {
+            Baseline stats = new Baseline();
+            stats.count = samples.size();
+            for (double sample : samples) {
+                stats.mean += sample / samples.size();
+            }
+            double variance = 0;
+            for (double sample : samples) {
+                variance += (sample - stats.mean) * (sample - stats.mean);
+            }
+            stats.stddev = samples.size() > 1 ? Math.sqrt(variance / (samples.size() - 1)) : 0;
+            return stats;
+        }
+    }
+
+    /**
+     * One value over its budget or baseline limit
+     */
+    public static class Violation {
+        private final String check;
+        private final String scope;
+        private final String metric;
+        private final double value;
+        private final double limit;
+        private final double baselineMean;
+
+        Violation(String check, String scope, String metric, double value, double limit, double baselineMean) {
+            this.check = check;
+            this.scope = scope;
+            this.metric = metric;
+            this.value = value;
+            this.limit = limit;
+            this.baselineMean = baselineMean;
+        }
+
+        /**
+         * Get the kind of limit that was exceeded
+         * @return budget or baseline
+         */
+        public String getCheck() {
+            return check;
+        }
+
+        /**
+         * Get the route or journey the value belongs to
+         * @return Route such as /attendance, or journey name such as addWorker
+         */
+        public String getScope() {
+            return scope;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public double getLimit() {
+            return limit;
+        }
+
+        String[] toRow() {
+            return new String[] {check, scope, metric, format(value), format(limit),
+                    Double.isNaN(baselineMean) ? "-" : format(baselineMean),
+                    String.format("+%.0f%%", (value / limit - 1) * 100)};
+        }
+
+        private static String format(double number) {
+            return number >= 100 ? String.format("%.0f", number) : String.format("%.3f", number);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s %s=%s > %s", check, scope, metric, format(value), format(limit));
+        }
+    }
+}
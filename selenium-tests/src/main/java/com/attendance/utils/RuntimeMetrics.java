@@ -0,0 +1,282 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples Chrome's runtime metrics (Performance.getMetrics) during a test
+ * Samples are taken at test start, after every page open and user journey and
+ * at test end. Each test gets a table of the series with layout and style
+ * recalculation counts per step, and the run writes all series plus per-step
+ * averages to runtime_metrics_&lt;runId&gt;.json. Opt-in through
+ * runtime.metrics.enabled; Chromium only
+ */
+public class RuntimeMetrics {
+    static final String[] METRICS = {"JSHeapUsedSize", "Nodes", "JSEventListeners", "LayoutCount",
+            "RecalcStyleCount", "TaskDuration"};
+    // Cumulative counters; per-step values are the difference to the previous sample
+    private static final String[] COUNTERS = {"LayoutCount", "RecalcStyleCount", "TaskDuration"};
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final ThreadLocal<List<Sample>> currentSeries = new ThreadLocal<>();
+    private static final ThreadLocal<Long> seriesStartNanos = new ThreadLocal<>();
+    private static final Map<String, List<Sample>> runSeries = new ConcurrentHashMap<>();
+    private static final Map<String, StepTotal> stepTotals = new ConcurrentHashMap<>();
+
+    // Statistics
+    private static final AtomicLong samples = new AtomicLong();
+    private static final AtomicLong sampleNanos = new AtomicLong();
+
+    /**
+     * Check if runtime metrics sampling is enabled
+     * @return true if tests sample runtime metrics
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isRuntimeMetricsEnabled();
+    }
+
+    /**
+     * Enable the Performance domain and take the first sample of the test
+     * @param driver WebDriver instance
+     */
+    public static void start(WebDriver driver) {
+        if (!isEnabled() || !(driver instanceof HasCdp) || currentSeries.get() != null) {
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Performance.enable", Collections.emptyMap());
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Runtime metrics not started: " + e.getMessage());
+            return;
+        }
+        currentSeries.set(new ArrayList<>());
+        seriesStartNanos.set(System.nanoTime());
+        sample("start");
+    }
+
+    /**
+     * Sample the current thread's browser after a step of the test
+     * The sampling time is excluded from running transactions
+     * @param label Step name, e.g. a page or journey name
+     * @return Sampled metrics, or null if sampling is not active
+     */
+    public static Map<String, Double> sample(String label) {
+        List<Sample> series = currentSeries.get();
+        WebDriver driver = DriverManager.getCurrentDriver();
+        if (series == null || !(driver instanceof HasCdp)) {
+            return null;
+        }
+        long startNanos = System.nanoTime();
+        Map<String, Double> values = new LinkedHashMap<>();
+        try {
+            Map<String, Double> all = readMetrics((HasCdp) driver);
+            for (String name : METRICS) {
+                values.put(name, all.getOrDefault(name, 0.0));
+            }
+        } catch (WebDriverException e) {
+            LoggerUtils.debug("Failed to sample runtime metrics: " + e.getMessage());
+            return null;
+        } finally {
+            long elapsed = System.nanoTime() - startNanos;
+            sampleNanos.addAndGet(elapsed);
+            TransactionTimer.excludeTime(elapsed);
+        }
+        samples.incrementAndGet();
+        series.add(new Sample(label, (startNanos - seriesStartNanos.get()) / 1_000_000, values));
+        return values;
+    }
+
+    /**
+     * Read all runtime metrics of a browser; the Performance domain must be enabled
+     * @param cdp Chromium driver
+     * @return Metric values by name
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Double> readMetrics(HasCdp cdp) {
+        Map<String, Object> response = cdp.executeCdpCommand("Performance.getMetrics", Collections.emptyMap());
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (Map<String, Object> metric : (List<Map<String, Object>>) response.get("metrics")) {
+            metrics.put((String) metric.get("name"), ((Number) metric.get("value")).doubleValue());
+        }
+        return metrics;
+    }
+
+    /**
+     * Take the last sample, add the series to the report and end sampling for the test
+     * @param name Series name, usually the test name
+     * @return Samples of the test, empty if sampling was not active
+     */
+    public static List<Sample> finishTest(String name) {
+        if (currentSeries.get() == null) {
+            return Collections.emptyList();
+        }
+        sample("end");
+        List<Sample> series = currentSeries.get();
+        currentSeries.remove();
+        seriesStartNanos.remove();
+        if (series.isEmpty()) {
+            // Every sample failed, e.g. after the browser crashed
+            LoggerUtils.warn("Runtime metrics " + name + ": no samples");
+            return series;
+        }
+        runSeries.put(name, series);
+
+        String[][] table = new String[series.size() + 1][];
+        table[0] = new String[] {"Step", "At ms", "JS heap MB", "Nodes", "Listeners", "Layouts", "Style recalcs",
+                "Task ms"};
+        for (int i = 0; i < series.size(); i++) {
+            Sample sample = series.get(i);
+            Map<String, Double> delta = i == 0 ? Collections.emptyMap() : sample.deltaFrom(series.get(i - 1));
+            if (i > 0) {
+                stepTotals.computeIfAbsent(sample.label, key -> new StepTotal()).add(delta);
+            }
+            table[i + 1] = new String[] {sample.label, String.valueOf(sample.atMillis),
+                    String.format("%.1f", sample.get("JSHeapUsedSize") / (1024 * 1024)),
+                    String.format("%.0f", sample.get("Nodes")), String.format("%.0f", sample.get("JSEventListeners")),
+                    String.format("+%.0f", delta.getOrDefault("LayoutCount", 0.0)),
+                    String.format("+%.0f", delta.getOrDefault("RecalcStyleCount", 0.0)),
+                    String.format("+%.0f", delta.getOrDefault("TaskDuration", 0.0) * 1000)};
+        }
+        ExtentReportManager.getTest().info(MarkupHelper.createTable(table));
+        Sample first = series.get(0);
+        Sample last = series.get(series.size() - 1);
+        LoggerUtils.info(String.format("Runtime metrics %s: samples=%d, heap %.1f->%.1fMB, nodes %.0f->%.0f, "
+                        + "layouts=%.0f, styleRecalcs=%.0f", name, series.size(),
+                first.get("JSHeapUsedSize") / (1024 * 1024), last.get("JSHeapUsedSize") / (1024 * 1024),
+                first.get("Nodes"), last.get("Nodes"), last.deltaFrom(first).get("LayoutCount"),
+                last.deltaFrom(first).get("RecalcStyleCount")));
+        return series;
+    }
+
+    /**
+     * Write all series and the average cost per step to runtime_metrics_&lt;runId&gt;.json
+     * @return Report path, or null if nothing was sampled
+     */
+    public static String writeReport() {
+        if (runSeries.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> steps = new TreeMap<>();
+        for (Map.Entry<String, StepTotal> step : stepTotals.entrySet()) {
+            Map<String, Object> averages = step.getValue().toMap();
+            steps.put(step.getKey(), averages);
+            LoggerUtils.info("Runtime metrics per step " + step.getKey() + ": " + averages);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("steps", steps);
+        report.put("tests", new TreeMap<>(runSeries));
+        File file = new File(ExtentReportManager.getReportDir(),
+                "runtime_metrics_" + ExtentReportManager.getRunId() + ".json");
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, report);
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write runtime metrics: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get runtime metrics statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        long count = samples.get();
+        return String.format("Runtime metrics: tests=%d, samples=%d, avgSampleMs=%.1f", runSeries.size(), count,
+                count == 0 ? 0 : sampleNanos.get() / 1e6 / count);
+    }
+
+    /**
+     * Runtime metrics at one point of a test
+     */
+    public static class Sample {
+        private final String label;
+        private final long atMillis;
+        private final Map<String, Double> values;
+
+        Sample(String label, long atMillis, Map<String, Double> values) {
+            this.label = label;
+            this.atMillis = atMillis;
+            this.values = values;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Get the time since the first sample of the test
+         * @return Milliseconds
+         */
+        public long getAtMillis() {
+            return atMillis;
+        }
+
+        public Map<String, Double> getValues() {
+            return values;
+        }
+
+        /**
+         * Get one metric
+         * @param metric Metric name, e.g. JSHeapUsedSize or Nodes
+         * @return Value, 0 if not sampled
+         */
+        public double get(String metric) {
+            return values.getOrDefault(metric, 0.0);
+        }
+
+        /**
+         * Get the change of every metric since an earlier sample
+         * @param earlier Earlier sample of the same test
+         * @return Differences per metric
+         */
+        public Map<String, Double> deltaFrom(Sample earlier) {
+            Map<String, Double> delta = new LinkedHashMap<>();
+            for (String metric : METRICS) {
+                delta.put(metric, get(metric) - earlier.get(metric));
+            }
+            return delta;
+        }
+    }
+
+    /**
+     * Counter increments of one step over all tests
+     */
+    private static class StepTotal {
+        private final Map<String, Double> sums = new LinkedHashMap<>();
+        private long count;
+
+        synchronized void add(Map<String, Double> delta) {
+            count++;
+            for (String counter : COUNTERS) {
+                sums.merge(counter, delta.getOrDefault(counter, 0.0), Double::sum);
+            }
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> averages = new LinkedHashMap<>();
+            averages.put("samples", count);
+            for (Map.Entry<String, Double> sum : sums.entrySet()) {
+                averages.put("avg" + sum.getKey(), sum.getValue() / count);
+            }
+            return averages;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the last seconds of a test as a DevTools screencast
+ * Frames are kept in a bounded in-memory ring buffer and only encoded to an
+ * MJPEG file when the test fails. Opt-in through screencast.enabled; Chromium only
+ */
+public class ScreencastRecorder {
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<ScreencastRecorder> currentRecorder = new ThreadLocal<>();
+
+    private static final Event<Map<String, Object>> SCREENCAST_FRAME =
+            new Event<>("Page.screencastFrame", input -> input.read(Json.MAP_TYPE));
+
+    // Statistics
+    private static final AtomicLong sessions = new AtomicLong();
+    private static final AtomicLong savedRecordings = new AtomicLong();
+    private static final AtomicLong totalFrames = new AtomicLong();
+    private static final AtomicLong totalCpuNanos = new AtomicLong();
+    private static final AtomicLong maxBufferBytes = new AtomicLong();
+
+    private final DevTools devTools;
+    private final long bufferMillis;
+    private final long minFrameIntervalMillis;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final ExecutorService ackExecutor;
+    private long bufferedBytes;
+    private long peakBufferedBytes;
+    private long lastFrameMillis;
+    private long receivedFrames;
+    private long cpuNanos;
+    private volatile boolean recording = true;
+
+    private ScreencastRecorder(DevTools devTools) {
+        this.devTools = devTools;
+        this.bufferMillis = ConfigReader.getScreencastBufferSeconds() * 1000L;
+        this.minFrameIntervalMillis = 1000L / Math.max(1, ConfigReader.getScreencastFps());
+        this.ackExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "screencast-ack");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start recording the current thread's browser if screencasts are enabled
+     * @param driver WebDriver instance
+     */
+    public static void start(WebDriver driver) {
+        if (!ConfigReader.isScreencastEnabled() || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            ScreencastRecorder recorder = new ScreencastRecorder(devTools);
+            DevToolsListeners.add(devTools, SCREENCAST_FRAME, recorder, recorder::onFrame);
+
+            // Chrome produces up to 60 frames per second while the page changes
+            Map<String, Object> params = new HashMap<>();
+            params.put("format", "jpeg");
+            params.put("quality", ConfigReader.getScreencastQuality());
+            params.put("maxWidth", ConfigReader.getScreencastMaxWidth());
+            params.put("maxHeight", ConfigReader.getScreencastMaxHeight());
+            params.put("everyNthFrame", Math.max(1, 60 / Math.max(1, ConfigReader.getScreencastFps())));
+            devTools.send(new Command<>("Page.startScreencast", params));
+
+            currentRecorder.set(recorder);
+            sessions.incrementAndGet();
+        } catch (WebDriverException e) {
+            LoggerUtils.warn("Screencast not started: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop recording the current thread's browser
+     * @param keep true to encode the buffered frames to disk (failed test)
+     * @param name Recording name, usually the test name
+     * @return Path of the written recording, or null if nothing was written
+     */
+    public static String stop(boolean keep, String name) {
+        ScreencastRecorder recorder = currentRecorder.get();
+        currentRecorder.remove();
+        if (recorder == null) {
+            return null;
+        }
+        recorder.recording = false;
+        try {
+            recorder.devTools.send(new Command<>("Page.stopScreencast", Collections.emptyMap()));
+        } catch (WebDriverException e) {
+            LoggerUtils.debug("Failed to stop screencast: " + e.getMessage());
+        }
+        // Listeners are per test; the session may be reused by the next test and shared with other recorders
+        DevToolsListeners.remove(recorder.devTools, recorder);
+        recorder.ackExecutor.shutdownNow();
+
+        String path = null;
+        synchronized (recorder) {
+            totalFrames.addAndGet(recorder.receivedFrames);
+            totalCpuNanos.addAndGet(recorder.cpuNanos);
+            maxBufferBytes.accumulateAndGet(recorder.peakBufferedBytes, Math::max);
+            LoggerUtils.info(String.format("Screencast %s: frames=%d, buffered=%d, cpuMs=%.1f, peakBufferKb=%d",
+                    name, recorder.receivedFrames, recorder.frames.size(), recorder.cpuNanos / 1e6,
+                    recorder.peakBufferedBytes / 1024));
+            if (keep && !recorder.frames.isEmpty()) {
+                path = recorder.writeMjpeg(name);
+            }
+            recorder.frames.clear();
+        }
+        return path;
+    }
+
+    /**
+     * Get screencast statistics summary
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        long count = sessions.get();
+        return String.format("Screencasts: sessions=%d, saved=%d, frames=%d, avgCpuMsPerSession=%.1f, maxBufferKb=%d",
+                count, savedRecordings.get(), totalFrames.get(),
+                count == 0 ? 0 : totalCpuNanos.get() / 1e6 / count, maxBufferBytes.get() / 1024);
+    }
+
+    /**
+     * Handle one frame; runs on the DevTools connection thread
+     */
+    private void onFrame(Map<String, Object> frameEvent) {
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        Object sessionId = frameEvent.get("sessionId");
+        if (!recording) {
+            return;
+        }
+        // Acknowledge off the connection thread; Chrome stops sending frames until acked
+        ackExecutor.execute(() -> acknowledge(sessionId));
+
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            receivedFrames++;
+            if (now - lastFrameMillis >= minFrameIntervalMillis) {
+                lastFrameMillis = now;
+                byte[] jpeg = Base64.getDecoder().decode((String) frameEvent.get("data"));
+                frames.addLast(new Frame(now, jpeg));
+                bufferedBytes += jpeg.length;
+                while (!frames.isEmpty() && now - frames.peekFirst().timestampMillis > bufferMillis) {
+                    bufferedBytes -= frames.removeFirst().jpeg.length;
+                }
+                peakBufferedBytes = Math.max(peakBufferedBytes, bufferedBytes);
+            }
+            cpuNanos += threadMXBean.getCurrentThreadCpuTime() - cpuStart;
+        }
+    }
+
+    private void acknowledge(Object sessionId) {
+        if (!recording) {
+            return;
+        }
+        try {
+            devTools.send(new Command<>("Page.screencastFrameAck",
+                    Collections.singletonMap("sessionId", sessionId)));
+        } catch (WebDriverException e) {
+            LoggerUtils.debug("Failed to acknowledge screencast frame: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write buffered frames as concatenated JPEGs (MJPEG, playable with ffplay or VLC)
+     */
+    private String writeMjpeg(String name) {
+        File dir = new File(ConfigReader.getScreencastPath());
+        dir.mkdirs();
+        File file = new File(dir, name + "_" + ExtentReportManager.getRunId() + ".mjpeg");
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            for (Frame frame : frames) {
+                outputStream.write(frame.jpeg);
+            }
+            savedRecordings.incrementAndGet();
+            LoggerUtils.info("Screencast saved: " + file.getPath() + " (" + frames.size() + " frames)");
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write screencast: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * One screencast frame
+     */
+    private static class Frame {
+        private final long timestampMillis;
+        private final byte[] jpeg;
+
+        Frame(long timestampMillis, byte[] jpeg) {
+            this.timestampMillis = timestampMillis;
+            this.jpeg = jpeg;
+        }
+    }
+}
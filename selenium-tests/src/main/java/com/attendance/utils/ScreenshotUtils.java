@@ -1,54 +1,93 @@
 package com.attendance.utils;
 
 import com.attendance.config.ConfigReader;
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for taking screenshots
- * Automatically saves screenshots on test failures
+ * Automatically saves screenshots on test failures. Screenshots are captured as
+ * bytes on the test thread and compressed and written by a bounded background
+ * writer; identical frames are stored once
  */
 public class ScreenshotUtils {
     private static final String SCREENSHOT_DIR = ConfigReader.getScreenshotPath();
+    private static final Map<String, String> pathsByHash = new ConcurrentHashMap<>();
+    private static final ThreadPoolExecutor writer = createWriter();
+
+    // Statistics
+    private static final AtomicLong captures = new AtomicLong();
+    private static final AtomicLong duplicates = new AtomicLong();
+    private static final AtomicLong captureNanos = new AtomicLong();
+    private static final AtomicLong maxCaptureNanos = new AtomicLong();
+    private static final AtomicLong rawBytes = new AtomicLong();
+    private static final AtomicLong writtenBytes = new AtomicLong();
+    private static final AtomicLong duplicateBytes = new AtomicLong();
 
     /**
-     * Take screenshot and save with timestamp
+     * Take screenshot and queue it for writing
+     * The returned path is reserved immediately; the file appears once the
+     * background writer has compressed it
      * @param driver WebDriver instance
      * @param screenshotName Name of the screenshot
      * @return File path of saved screenshot
      */
     public static String takeScreenshot(WebDriver driver, String screenshotName) {
+        long start = System.nanoTime();
+        byte[] png;
         try {
-            // Create screenshot directory if it doesn't exist
-            File screenshotDir = new File(SCREENSHOT_DIR);
-            if (!screenshotDir.exists()) {
-                screenshotDir.mkdirs();
-            }
-
-            // Generate timestamp
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String fileName = screenshotName + "_" + timestamp + ".png";
-            String filePath = SCREENSHOT_DIR + File.separator + fileName;
-
-            // Take screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(filePath);
-            FileUtils.copyFile(sourceFile, destinationFile);
-
-            LoggerUtils.info("Screenshot saved: " + filePath);
-            return filePath;
-        } catch (IOException e) {
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (WebDriverException e) {
             LoggerUtils.error("Failed to take screenshot: " + e.getMessage());
             return null;
         }
+
+        String hash = sha256(png);
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        String extension = isJpeg() ? "jpg" : "png";
+        String filePath = SCREENSHOT_DIR + File.separator
+                + screenshotName + "_" + timestamp + "_" + uniqueId + "." + extension;
+        String existingPath = pathsByHash.putIfAbsent(hash, filePath);
+        if (existingPath != null) {
+            duplicates.incrementAndGet();
+            duplicateBytes.addAndGet(png.length);
+            recordCapture(start);
+            LoggerUtils.info("Screenshot identical to " + existingPath + ", not saved again");
+            return existingPath;
+        }
+
+        rawBytes.addAndGet(png.length);
+        writer.execute(() -> write(png, filePath));
+        recordCapture(start);
+        LoggerUtils.info("Screenshot saved: " + filePath);
+        return filePath;
     }
 
     /**
@@ -69,5 +108,131 @@ public class ScreenshotUtils {
     public static String takeScreenshotOnFailure(WebDriver driver, String testName) {
         return takeScreenshot(driver, "FAILED_" + testName);
     }
-}
 
+    /**
+     * Wait for queued screenshots to be written
+     */
+    public static void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(60, TimeUnit.SECONDS)) {
+                LoggerUtils.warn("Screenshot writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get screenshot statistics summary
+     * Saved bytes cover compression and skipped duplicate frames
+     * @return Human readable statistics
+     */
+    public static String getStatsSummary() {
+        long count = captures.get();
+        long raw = rawBytes.get();
+        long written = writtenBytes.get();
+        return String.format("Screenshots: captures=%d, duplicates=%d, avgCaptureMs=%.1f, maxCaptureMs=%.1f, "
+                        + "rawKb=%d, writtenKb=%d, savedKb=%d",
+                count, duplicates.get(), count == 0 ? 0 : captureNanos.get() / 1e6 / count,
+                maxCaptureNanos.get() / 1e6, raw / 1024, written / 1024,
+                (Math.max(0, raw - written) + duplicateBytes.get()) / 1024);
+    }
+
+    /**
+     * Compress and write one screenshot; runs on the writer thread
+     */
+    private static void write(byte[] png, String filePath) {
+        try {
+            File file = new File(filePath);
+            file.getParentFile().mkdirs();
+            double scale = ConfigReader.getScreenshotScale();
+            if (!isJpeg() && scale >= 1.0) {
+                Files.write(file.toPath(), png);
+            } else {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+                BufferedImage output = scale(image, scale, isJpeg());
+                if (isJpeg()) {
+                    writeJpeg(output, file);
+                } else {
+                    ImageIO.write(output, "png", file);
+                }
+            }
+            writtenBytes.addAndGet(file.length());
+        } catch (IOException | RuntimeException e) {
+            LoggerUtils.error("Failed to write screenshot " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Downscale an image; JPEG output also needs the alpha channel removed
+     */
+    private static BufferedImage scale(BufferedImage image, double scale, boolean opaque) {
+        int width = Math.max(1, (int) Math.round(image.getWidth() * Math.min(scale, 1.0)));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * Math.min(scale, 1.0)));
+        if (width == image.getWidth() && height == image.getHeight() && !opaque) {
+            return image;
+        }
+        BufferedImage scaled = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    private static void writeJpeg(BufferedImage image, File file) throws IOException {
+        ImageWriter jpegWriter = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam params = jpegWriter.getDefaultWriteParam();
+        params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        params.setCompressionQuality(ConfigReader.getScreenshotJpegQuality());
+        try (ImageOutputStream outputStream = ImageIO.createImageOutputStream(file)) {
+            jpegWriter.setOutput(outputStream);
+            jpegWriter.write(null, new IIOImage(image, null, null), params);
+        } finally {
+            jpegWriter.dispose();
+        }
+    }
+
+    private static boolean isJpeg() {
+        String format = ConfigReader.getScreenshotFormat();
+        return "jpg".equals(format) || "jpeg".equals(format);
+    }
+
+    private static void recordCapture(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        captures.incrementAndGet();
+        captureNanos.addAndGet(elapsed);
+        maxCaptureNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(data)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Single writer thread with a bounded queue; a full queue makes the
+     * capturing thread write the screenshot itself instead of dropping it
+     */
+    private static ThreadPoolExecutor createWriter() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ConfigReader.getScreenshotQueueSize()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        Runtime.getRuntime().addShutdownHook(new Thread(ScreenshotUtils::shutdown));
+        return executor;
+    }
+}
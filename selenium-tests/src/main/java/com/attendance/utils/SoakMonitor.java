@@ -0,0 +1,349 @@
+package com.attendance.utils;
+
+import com.attendance.config.ConfigReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Memory leak detection for soak runs that loop journeys in one browser session
+ * After every cycle the page's garbage is collected and the retained JS heap,
+ * DOM node and event listener counts are sampled. A least-squares line over the
+ * samples after warm-up gives the growth per cycle; steady growth above the
+ * configured thresholds is reported as a leak. Chromium only
+ */
+public class SoakMonitor {
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Event<Map<String, Object>> HEAP_SNAPSHOT_CHUNK =
+            new Event<>("HeapProfiler.addHeapSnapshotChunk", input -> input.read(Json.MAP_TYPE));
+    // Fewer samples after warm-up than this give no verdict
+    private static final int MIN_TREND_SAMPLES = 5;
+
+    /**
+     * Force garbage collection and sample retained heap, DOM nodes and listeners
+     * @param driver Chromium WebDriver
+     * @param cycle Completed cycles, 0 before the first
+     * @param elapsedMillis Time since the soak started
+     * @return Sample after garbage collection
+     */
+    public static Sample sample(WebDriver driver, int cycle, long elapsedMillis) {
+        if (!(driver instanceof HasCdp)) {
+            throw new IllegalStateException("Soak monitoring needs a Chromium browser");
+        }
+        HasCdp cdp = (HasCdp) driver;
+        cdp.executeCdpCommand("Performance.enable", Collections.emptyMap());
+        // Twice, so objects kept alive by finalizers and weak callbacks of the first pass are collected too
+        cdp.executeCdpCommand("HeapProfiler.collectGarbage", Collections.emptyMap());
+        cdp.executeCdpCommand("HeapProfiler.collectGarbage", Collections.emptyMap());
+        Map<String, Double> metrics = RuntimeMetrics.readMetrics(cdp);
+        return new Sample(cycle, elapsedMillis, metrics.getOrDefault("JSHeapUsedSize", 0.0).longValue(),
+                metrics.getOrDefault("Nodes", 0.0).longValue(),
+                metrics.getOrDefault("JSEventListeners", 0.0).longValue());
+    }
+
+    /**
+     * Fit growth trends to the samples and decide whether the session leaks
+     * @param samples Samples in cycle order, including the one before the first cycle
+     * @return Leak verdict
+     */
+    public static LeakVerdict analyze(List<Sample> samples) {
+        int warmup = Math.min(ConfigReader.getSoakWarmupCycles(), samples.size());
+        List<Sample> steady = samples.subList(warmup, samples.size());
+        if (steady.size() < MIN_TREND_SAMPLES) {
+            return new LeakVerdict(LeakVerdict.INCONCLUSIVE, steady.size(), Trend.NONE, Trend.NONE, Trend.NONE, 0);
+        }
+        double[] cycles = new double[steady.size()];
+        double[] heap = new double[steady.size()];
+        double[] nodes = new double[steady.size()];
+        double[] listeners = new double[steady.size()];
+        for (int i = 0; i < steady.size(); i++) {
+            cycles[i] = steady.get(i).cycle;
+            heap[i] = steady.get(i).heapBytes;
+            nodes[i] = steady.get(i).nodes;
+            listeners[i] = steady.get(i).listeners;
+        }
+        Trend heapTrend = Trend.fit(cycles, heap);
+        Trend nodeTrend = Trend.fit(cycles, nodes);
+        Trend listenerTrend = Trend.fit(cycles, listeners);
+
+        double minRSquared = ConfigReader.getSoakLeakMinRSquared();
+        boolean heapLeak = heapTrend.slope > ConfigReader.getSoakLeakHeapKbPerCycle() * 1024
+                && heapTrend.rSquared >= minRSquared;
+        boolean nodeLeak = nodeTrend.slope > ConfigReader.getSoakLeakNodesPerCycle()
+                && nodeTrend.rSquared >= minRSquared;
+        long retainedBytes = steady.get(steady.size() - 1).heapBytes - steady.get(0).heapBytes;
+        return new LeakVerdict(heapLeak || nodeLeak ? LeakVerdict.LEAK : LeakVerdict.NO_LEAK, steady.size(),
+                heapTrend, nodeTrend, listenerTrend, retainedBytes);
+    }
+
+    /**
+     * Write a heap snapshot of the page, loadable in the Chrome DevTools Memory tab
+     * @param driver Chromium WebDriver
+     * @param name Snapshot name, usually the test name
+     * @return Snapshot path, or null if it could not be taken
+     */
+    public static String takeHeapSnapshot(WebDriver driver, String name) {
+        if (!(driver instanceof HasDevTools)) {
+            return null;
+        }
+        File dir = new File(ExtentReportManager.getReportDir(), "heap");
+        dir.mkdirs();
+        File file = new File(dir, name + "_" + ExtentReportManager.getRunId() + ".heapsnapshot");
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            DevToolsListeners.add(devTools, HEAP_SNAPSHOT_CHUNK, writing, chunk -> {
+                synchronized (writer) {
+                    if (writing.get()) {
+                        try {
+                            writer.write((String) chunk.get("chunk"));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                }
+            });
+            // Chrome sends all chunks before it answers the command
+            devTools.send(new Command<>("HeapProfiler.takeHeapSnapshot",
+                    Collections.singletonMap("reportProgress", false)));
+            synchronized (writer) {
+                writing.set(false);
+            }
+            DevToolsListeners.remove(devTools, writing);
+        } catch (IOException | UncheckedIOException | WebDriverException e) {
+            writing.set(false);
+            LoggerUtils.warn("Failed to take heap snapshot: " + e.getMessage());
+            return null;
+        }
+        LoggerUtils.info("Heap snapshot saved: " + file.getPath() + " (" + file.length() / 1024 + "KB)");
+        return file.getPath();
+    }
+
+    /**
+     * Write the samples and verdict of a soak run to soak_&lt;name&gt;_&lt;runId&gt;.json
+     * @param name Soak name, usually the test name
+     * @param samples Samples in cycle order
+     * @param verdict Verdict from {@link #analyze(List)}
+     * @return Report path, or null if it could not be written
+     */
+    public static String writeReport(String name, List<Sample> samples, LeakVerdict verdict) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("verdict", verdict);
+        report.put("samples", samples);
+        File file = new File(ExtentReportManager.getReportDir(),
+                "soak_" + name + "_" + ExtentReportManager.getRunId() + ".json");
+        file.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(file, report);
+            return file.getPath();
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write soak report: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retained memory of the page after one cycle
+     */
+    public static class Sample {
+        private final int cycle;
+        private final long elapsedMillis;
+        private final long heapBytes;
+        private final long nodes;
+        private final long listeners;
+
+        Sample(int cycle, long elapsedMillis, long heapBytes, long nodes, long listeners) {
+            this.cycle = cycle;
+            this.elapsedMillis = elapsedMillis;
+            this.heapBytes = heapBytes;
+            this.nodes = nodes;
+            this.listeners = listeners;
+        }
+
+        public int getCycle() {
+            return cycle;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Get the used JS heap after garbage collection
+         * @return Bytes
+         */
+        public long getHeapBytes() {
+            return heapBytes;
+        }
+
+        /**
+         * Get the DOM nodes alive in the page, detached ones included
+         * @return Node count
+         */
+        public long getNodes() {
+            return nodes;
+        }
+
+        public long getListeners() {
+            return listeners;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("cycle %d: heap=%.2fMB, nodes=%d, listeners=%d", cycle,
+                    heapBytes / (1024.0 * 1024), nodes, listeners);
+        }
+    }
+
+    /**
+     * Least-squares line of a metric over cycles
+     */
+    public static class Trend {
+        static final Trend NONE = new Trend(0, 0);
+
+        private final double slope;
+        private final double rSquared;
+
+        Trend(double slope, double rSquared) {
+            this.slope = slope;
+            this.rSquared = rSquared;
+        }
+
+        static Trend fit(double[] x, double[] y) {
+            double meanX = 0;
+            double meanY = 0;
+            for (int i = 0; i < x.length; i++) {
+                meanX += x[i] / x.length;
+                meanY += y[i] / y.length;
+            }
+            double covariance = 0;
+            double varianceX = 0;
+            double varianceY = 0;
+            for (int i = 0; i < x.length; i++) {
+                covariance += (x[i] - meanX) * (y[i] - meanY);
+                varianceX += (x[i] - meanX) * (x[i] - meanX);
+                varianceY += (y[i] - meanY) * (y[i] - meanY);
+            }
+            if (varianceX == 0) {
+                return NONE;
+            }
+            double slope = covariance / varianceX;
+            // A flat series fits perfectly but shows no growth
+            double rSquared = varianceY == 0 ? 0 : covariance * covariance / (varianceX * varianceY);
+            return new Trend(slope, rSquared);
+        }
+
+        /**
+         * Get the growth per cycle
+         * @return Metric units per cycle
+         */
+        public double getSlope() {
+            return slope;
+        }
+
+        /**
+         * Get how well the line explains the samples
+         * @return Coefficient of determination between 0 and 1
+         */
+        public double getRSquared() {
+            return rSquared;
+        }
+    }
+
+    /**
+     * Outcome of a soak run
+     */
+    public static class LeakVerdict {
+        public static final String LEAK = "LEAK";
+        public static final String NO_LEAK = "NO_LEAK";
+        public static final String INCONCLUSIVE = "INCONCLUSIVE";
+
+        private final String verdict;
+        private final int trendSamples;
+        private final Trend heap;
+        private final Trend nodes;
+        private final Trend listeners;
+        private final long retainedBytes;
+
+        LeakVerdict(String verdict, int trendSamples, Trend heap, Trend nodes, Trend listeners, long retainedBytes) {
+            this.verdict = verdict;
+            this.trendSamples = trendSamples;
+            this.heap = heap;
+            this.nodes = nodes;
+            this.listeners = listeners;
+            this.retainedBytes = retainedBytes;
+        }
+
+        /**
+         * Get the verdict
+         * @return LEAK, NO_LEAK or INCONCLUSIVE (too few cycles after warm-up)
+         */
+        public String getVerdict() {
+            return verdict;
+        }
+
+        public boolean isLeak() {
+            return LEAK.equals(verdict);
+        }
+
+        public int getTrendSamples() {
+            return trendSamples;
+        }
+
+        /**
+         * Get the retained heap growth per cycle
+         * @return Bytes per cycle
+         */
+        public double getRetainedBytesPerCycle() {
+            return heap.slope;
+        }
+
+        public Trend getHeap() {
+            return heap;
+        }
+
+        public Trend getNodes() {
+            return nodes;
+        }
+
+        public Trend getListeners() {
+            return listeners;
+        }
+
+        /**
+         * Get the heap retained between the first and last sample after warm-up
+         * @return Bytes
+         */
+        public long getRetainedBytes() {
+            return retainedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s over %d cycles: heap %+.1fKB/cycle (r2=%.2f, total %+.1fKB), "
+                            + "nodes %+.1f/cycle (r2=%.2f), listeners %+.1f/cycle (r2=%.2f)",
+                    verdict, trendSamples, heap.slope / 1024, heap.rSquared, retainedBytes / 1024.0,
+                    nodes.slope, nodes.rSquared, listeners.slope, listeners.rSquared);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.attendance.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Named timers for user journeys such as adding a worker
+ * Durations exclude framework waits (WaitUtils.wait) and are recorded into
+ * per-thread HdrHistograms, merged and exported as JSON and Prometheus text
+ * next to the Extent report at the end of the suite
+ */
+public class TransactionTimer {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Queue<Map<String, Histogram>> allHistograms = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Map<String, Histogram>> threadHistograms = ThreadLocal.withInitial(() -> {
+        Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+        allHistograms.add(histograms);
+        return histograms;
+    });
+    private static final ThreadLocal<Deque<Transaction>> activeTransactions = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, List<Double>>> testDurations = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Start timing a transaction on the current thread
+     * Use with try-with-resources and call {@link Transaction#complete()} on success;
+     * a transaction closed without completing is counted as failed
+     * @param name Transaction name, e.g. addWorker
+     * @return Running transaction
+     */
+    public static Transaction start(String name) {
+        Transaction transaction = new Transaction(name);
+        activeTransactions.get().push(transaction);
+        return transaction;
+    }
+
+    /**
+     * Exclude time from all transactions running on the current thread
+     * Called for framework waits that are not part of the application's response time
+     * @param nanos Time to exclude
+     */
+    public static void excludeTime(long nanos) {
+        for (Transaction transaction : activeTransactions.get()) {
+            transaction.excludedNanos += nanos;
+        }
+    }
+
+    /**
+     * Get and clear the durations completed by the current test thread
+     * @return Completed durations in milliseconds per transaction name
+     */
+    public static Map<String, List<Double>> finishTest() {
+        Map<String, List<Double>> durations = testDurations.get();
+        testDurations.remove();
+        return durations;
+    }
+
+    /**
+     * Merge the per-thread histograms and write transactions_&lt;runId&gt;.json and .prom
+     * @return JSON file path, or null if no transaction was recorded
+     */
+    public static String export() {
+        Map<String, Histogram> merged = merge();
+        if (merged.isEmpty() && failures.isEmpty()) {
+            return null;
+        }
+        Map<String, Map<String, Object>> summary = new TreeMap<>();
+        for (Map.Entry<String, Histogram> entry : merged.entrySet()) {
+            Histogram histogram = entry.getValue();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getTotalCount());
+            stats.put("failures", getFailures(entry.getKey()));
+            stats.put("meanMillis", histogram.getMean() / 1000.0);
+            for (double quantile : QUANTILES) {
+                stats.put("p" + Math.round(quantile * 100) + "Millis",
+                        histogram.getValueAtPercentile(quantile * 100) / 1000.0);
+            }
+            stats.put("maxMillis", histogram.getMaxValue() / 1000.0);
+            summary.put(entry.getKey(), stats);
+        }
+        for (String name : failures.keySet()) {
+            if (!summary.containsKey(name)) {
+                Map<String, Object> stats = new LinkedHashMap<>();
+                stats.put("count", 0);
+                stats.put("failures", getFailures(name));
+                summary.put(name, stats);
+            }
+        }
+
+        String baseName = ExtentReportManager.getReportDir() + File.separator
+                + "transactions_" + ExtentReportManager.getRunId();
+        File jsonFile = new File(baseName + ".json");
+        jsonFile.getParentFile().mkdirs();
+        try {
+            objectMapper.writeValue(jsonFile, summary);
+            writePrometheus(new File(baseName + ".prom"), merged);
+        } catch (IOException e) {
+            LoggerUtils.error("Failed to write transaction timings: " + e.getMessage());
+            return null;
+        }
+        for (Map.Entry<String, Map<String, Object>> entry : summary.entrySet()) {
+            LoggerUtils.info("Transaction " + entry.getKey() + ": " + entry.getValue());
+        }
+        return jsonFile.getPath();
+    }
+
+    /**
+     * Get merged timings of one transaction
+     * @param name Transaction name
+     * @return Copy of the merged histogram in microseconds, or null if never recorded
+     */
+    public static Histogram getHistogram(String name) {
+        return merge().get(name);
+    }
+
+    private static Map<String, Histogram> merge() {
+        Map<String, Histogram> merged = new HashMap<>();
+        for (Map<String, Histogram> histograms : allHistograms) {
+            for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                Histogram histogram = entry.getValue();
+                synchronized (histogram) {
+                    merged.computeIfAbsent(entry.getKey(), key -> newHistogram()).add(histogram);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static void writePrometheus(File file, Map<String, Histogram> merged) throws IOException {
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            writer.println("# HELP ui_transaction_duration_seconds User journey duration excluding framework waits");
+            writer.println("# TYPE ui_transaction_duration_seconds summary");
+            for (Map.Entry<String, Histogram> entry : new TreeMap<>(merged).entrySet()) {
+                Histogram histogram = entry.getValue();
+                String label = "transaction=\"" + entry.getKey() + "\"";
+                for (double quantile : QUANTILES) {
+                    writer.printf("ui_transaction_duration_seconds{%s,quantile=\"%s\"} %.6f%n", label, quantile,
+                            histogram.getValueAtPercentile(quantile * 100) / 1e6);
+                }
+                writer.printf("ui_transaction_duration_seconds_sum{%s} %.6f%n", label,
+                        histogram.getMean() * histogram.getTotalCount() / 1e6);
+                writer.printf("ui_transaction_duration_seconds_count{%s} %d%n", label, histogram.getTotalCount());
+            }
+            writer.println("# HELP ui_transaction_failures_total User journeys that did not complete");
+            writer.println("# TYPE ui_transaction_failures_total counter");
+            for (String name : new TreeMap<>(failures).keySet()) {
+                writer.printf("ui_transaction_failures_total{transaction=\"%s\"} %d%n", name, getFailures(name));
+            }
+        }
+    }
+
+    private static long getFailures(String name) {
+        AtomicLong count = failures.get(name);
+        return count == null ? 0 : count.get();
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * One running transaction
+     */
+    public static class Transaction implements AutoCloseable {
+        private final String name;
+        private final long startNanos = System.nanoTime();
+        private long excludedNanos;
+        private boolean completed;
+        private boolean closed;
+
+        Transaction(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Mark the transaction as successful and record its duration
+         */
+        public void complete() {
+            if (closed) {
+                return;
+            }
+            long micros = Math.max(0, System.nanoTime() - startNanos - excludedNanos) / 1000;
+            Histogram histogram = threadHistograms.get().computeIfAbsent(name, key -> newHistogram());
+            synchronized (histogram) {
+                histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            }
+            testDurations.get().computeIfAbsent(name, key -> new ArrayList<>()).add(micros / 1000.0);
+            completed = true;
+            close();
+        }
+
+        /**
+         * Stop the transaction; counts as failed unless completed
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            activeTransactions.get().remove(this);
+            if (!completed) {
+                failures.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+            }
+            RuntimeMetrics.sample(name);
+        }
+    }
+}
@@ -2,23 +2,157 @@ package com.attendance.utils;
 
 import com.attendance.config.ConfigReader;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Utility class for explicit waits
- * Provides reusable wait methods for common scenarios
+ * Provides reusable wait methods for common scenarios. Locator waits use
+ * per-locator timeouts learned by {@link LocatorTimeouts} when wait.adaptive.enabled is set
  */
 public class WaitUtils {
+    // Counts in-flight fetch/XHR requests and the time of the last network activity
+    private static final String NETWORK_TRACKER_SCRIPT =
+            "(function () {"
+            + "  if (window.__networkTracker) { return; }"
+            + "  var tracker = window.__networkTracker = { inflight: 0, lastActivity: Date.now() };"
+            + "  function begin() { tracker.inflight++; tracker.lastActivity = Date.now(); }"
+            + "  function end() { tracker.inflight = Math.max(0, tracker.inflight - 1); tracker.lastActivity = Date.now(); }"
+            + "  if (window.fetch) {"
+            + "    var originalFetch = window.fetch;"
+            + "    window.fetch = function () {"
+            + "      begin();"
+            + "      return originalFetch.apply(this, arguments).then("
+            + "        function (response) { end(); return response; },"
+            + "        function (error) { end(); throw error; });"
+            + "    };"
+            + "  }"
+            + "  var originalSend = XMLHttpRequest.prototype.send;"
+            + "  XMLHttpRequest.prototype.send = function () {"
+            + "    begin();"
+            + "    this.addEventListener('loadend', end);"
+            + "    return originalSend.apply(this, arguments);"
+            + "  };"
+            + "})();";
+
+    // Quiet time counts from the later of the last activity and the start of the wait, so a request
+    // issued shortly after the action that preceded the wait is still waited for
+    private static final String NETWORK_IDLE_SCRIPT =
+            "var quietMillis = arguments[0], timeoutMillis = arguments[1], done = arguments[arguments.length - 1];"
+            + NETWORK_TRACKER_SCRIPT
+            + "var tracker = window.__networkTracker, start = Date.now();"
+            + "(function check() {"
+            + "  var now = Date.now();"
+            + "  if (document.readyState === 'complete' && tracker.inflight === 0"
+            + "      && now - Math.max(tracker.lastActivity, start) >= quietMillis) { return done(true); }"
+            + "  if (now - start >= timeoutMillis) { return done(false); }"
+            + "  setTimeout(check, 50);"
+            + "})();";
+
+    // Unknown until the network tracker is installed, which counts as still loading
+    private static final String PAGE_SETTLED_SCRIPT =
+            "var tracker = window.__networkTracker;"
+            + "return document.readyState === 'complete' && !!tracker && tracker.inflight === 0;";
+
+    // Counts matches of an xpath or css selector locator inside the page
+    static final String COUNT_MATCHES_FUNCTION =
+            "function countMatches(using, value) {"
+            + "  if (using === 'xpath') {"
+            + "    return document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null)"
+            + "        .snapshotLength;"
+            + "  }"
+            + "  return document.querySelectorAll(value).length;"
+            + "}";
+
+    // Re-evaluates a condition on DOM mutations, batched per animation frame with a slow timer fallback
+    // for throttled background tabs; resolves with the condition value or null on timeout
+    private static final String DOM_CONDITION_SCRIPT =
+            "var args = arguments, done = args[args.length - 1], timeoutMillis = args[0];"
+            + "var condition = new Function('args', args[1]);"
+            + "var conditionArgs = Array.prototype.slice.call(args, 2, args.length - 1);"
+            + COUNT_MATCHES_FUNCTION
+            + "function evaluate() {"
+            + "  try { var value = condition(conditionArgs); return value === false ? null : value; }"
+            + "  catch (e) { return null; }"
+            + "}"
+            + "var initial = evaluate();"
+            + "if (initial !== null && initial !== undefined) { return done(initial); }"
+            + "var finished = false, scheduled = false;"
+            + "function finish(value) {"
+            + "  if (finished) { return; }"
+            + "  finished = true; observer.disconnect(); clearInterval(fallback); clearTimeout(timer); done(value);"
+            + "}"
+            + "function check() {"
+            + "  scheduled = false;"
+            + "  var value = evaluate();"
+            + "  if (value !== null && value !== undefined) { finish(value); }"
+            + "}"
+            + "var observer = new MutationObserver(function () {"
+            + "  if (!scheduled && !finished) { scheduled = true; requestAnimationFrame(check); }"
+            + "});"
+            + "observer.observe(document.documentElement,"
+            + "    { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "var fallback = setInterval(check, 250);"
+            + "var timer = setTimeout(function () { finish(null); }, timeoutMillis);";
+
+    // Resolves with the match count once it has not changed for the settle window
+    private static final String COUNT_SETTLED_SCRIPT =
+            "var using = arguments[0], value = arguments[1], settleMillis = arguments[2], timeoutMillis = arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + COUNT_MATCHES_FUNCTION
+            + "var lastCount = countMatches(using, value), finished = false, settleTimer;"
+            + "function finish() {"
+            + "  if (finished) { return; }"
+            + "  finished = true; observer.disconnect(); clearTimeout(settleTimer); clearTimeout(timeoutTimer);"
+            + "  done(lastCount);"
+            + "}"
+            + "function restartSettle() { clearTimeout(settleTimer); settleTimer = setTimeout(finish, settleMillis); }"
+            + "var observer = new MutationObserver(function () {"
+            + "  var count = countMatches(using, value);"
+            + "  if (count !== lastCount) { lastCount = count; restartSettle(); }"
+            + "});"
+            + "observer.observe(document.documentElement, { childList: true, subtree: true });"
+            + "restartSettle();"
+            + "var timeoutTimer = setTimeout(finish, timeoutMillis);";
+
+    // Stays below the default 30 s WebDriver script timeout
+    private static final long MAX_SCRIPT_WAIT_MILLIS = 25_000;
+    private static final long FAST_CHECK_POLL_MILLIS = 100;
+
+    // Fixed sleep statistics
+    private static final AtomicLong sleepCalls = new AtomicLong();
+    private static final AtomicLong requestedSleepMillis = new AtomicLong();
+    private static final AtomicLong actualSleepMillis = new AtomicLong();
+    private static final AtomicLong fastChecks = new AtomicLong();
+    private static final AtomicLong fastCheckMisses = new AtomicLong();
+    private static final AtomicLong fastCheckMissMillis = new AtomicLong();
+
     private static WebDriverWait getWait(WebDriver driver) {
         return new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
     }
 
+    private static WebDriverWait getWait(WebDriver driver, long timeoutMillis, long pollingMillis) {
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofMillis(timeoutMillis));
+        wait.pollingEvery(Duration.ofMillis(pollingMillis));
+        return wait;
+    }
+
     /**
      * Wait for element to be visible
      * @param driver WebDriver instance
@@ -26,7 +160,7 @@ public class WaitUtils {
      * @return WebElement
      */
     public static WebElement waitForElementVisible(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return untilReady(driver, locator, ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     /**
@@ -36,7 +170,7 @@ public class WaitUtils {
      * @return WebElement
      */
     public static WebElement waitForElementClickable(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.elementToBeClickable(locator));
+        return untilReady(driver, locator, ExpectedConditions.elementToBeClickable(locator));
     }
 
     /**
@@ -46,7 +180,7 @@ public class WaitUtils {
      * @return WebElement
      */
     public static WebElement waitForElementPresent(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.presenceOfElementLocated(locator));
+        return untilReady(driver, locator, ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     /**
@@ -56,7 +190,7 @@ public class WaitUtils {
      * @return boolean
      */
     public static boolean waitForElementInvisible(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return untilReady(driver, locator, ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     /**
@@ -66,7 +200,7 @@ public class WaitUtils {
      * @return List of WebElements
      */
     public static List<WebElement> waitForAllElementsVisible(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+        return untilReady(driver, locator, ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
     }
 
     /**
@@ -77,7 +211,7 @@ public class WaitUtils {
      * @return boolean
      */
     public static boolean waitForTextToBePresent(WebDriver driver, By locator, String text) {
-        return getWait(driver).until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return untilReady(driver, locator, ExpectedConditions.textToBePresentInElementLocated(locator, text));
     }
 
     /**
@@ -90,6 +224,26 @@ public class WaitUtils {
         return getWait(driver).until(ExpectedConditions.urlContains(urlText));
     }
 
+    /**
+     * Wait for the URL to stop containing text, ending early when an error element shows
+     * @param driver WebDriver instance
+     * @param urlText URL text to wait to disappear, e.g. /login
+     * @param errorLocator Element that shows when the page stays, e.g. a form error
+     * @return true if the URL changed, false on the error element or timeout
+     */
+    public static boolean waitForUrlToLeave(WebDriver driver, String urlText, By errorLocator) {
+        return withoutImplicitWait(driver, () -> {
+            try {
+                getWait(driver).until(ExpectedConditions.or(
+                        ExpectedConditions.not(ExpectedConditions.urlContains(urlText)),
+                        ExpectedConditions.visibilityOfElementLocated(errorLocator)));
+            } catch (TimeoutException e) {
+                return false;
+            }
+            return !driver.getCurrentUrl().contains(urlText);
+        });
+    }
+
     /**
      * Wait for page title to contain text
      * @param driver WebDriver instance
@@ -119,16 +273,431 @@ public class WaitUtils {
         return getWait(driver).until(ExpectedConditions.stalenessOf(element));
     }
 
+    /**
+     * Check if an element is present right now, without waiting
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return true if at least one element matches
+     */
+    public static boolean isPresentNow(WebDriver driver, By locator) {
+        long start = System.nanoTime();
+        boolean present = withoutImplicitWait(driver, () -> !driver.findElements(locator).isEmpty());
+        recordFastCheck(present, start);
+        if (LocatorProfiler.isEnabled()) {
+            LocatorProfiler.record(driver, locator, System.nanoTime() - start, 1, present);
+        }
+        return present;
+    }
+
+    /**
+     * Check if an element becomes visible within a short bound
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @param timeoutMillis Maximum time to wait
+     * @return true if the element is visible
+     */
+    public static boolean isVisibleWithin(WebDriver driver, By locator, long timeoutMillis) {
+        long start = System.nanoTime();
+        boolean visible = withoutImplicitWait(driver, () -> {
+            try {
+                until(driver, getFastWait(driver, timeoutMillis), locator,
+                        ExpectedConditions.visibilityOfElementLocated(locator));
+                return true;
+            } catch (TimeoutException e) {
+                return false;
+            }
+        });
+        recordFastCheck(visible, start);
+        return visible;
+    }
+
+    /**
+     * Check if an element becomes visible within the configured fast check bound
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return true if the element is visible
+     */
+    public static boolean isVisibleWithin(WebDriver driver, By locator) {
+        return isVisibleWithin(driver, locator, ConfigReader.getFastCheckMillis());
+    }
+
+    /**
+     * Count visible elements, waiting a short bound for the first one to appear
+     * An empty list returns 0 after the bound instead of the full explicit wait
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @param timeoutMillis Maximum time to wait for the first element
+     * @return Number of visible elements
+     */
+    public static int countVisibleWithin(WebDriver driver, By locator, long timeoutMillis) {
+        long start = System.nanoTime();
+        int count = withoutImplicitWait(driver, () -> {
+            List<WebElement> elements;
+            try {
+                elements = until(driver, getFastWait(driver, timeoutMillis), locator, d -> {
+                    List<WebElement> found = d.findElements(locator);
+                    return found.isEmpty() ? null : found;
+                });
+            } catch (TimeoutException e) {
+                return 0;
+            }
+            int visible = 0;
+            for (WebElement element : elements) {
+                try {
+                    if (element.isDisplayed()) {
+                        visible++;
+                    }
+                } catch (StaleElementReferenceException e) {
+                    // Re-rendered while counting
+                }
+            }
+            return visible;
+        });
+        recordFastCheck(count > 0, start);
+        return count;
+    }
+
+    /**
+     * Count visible elements within the configured fast check bound
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return Number of visible elements
+     */
+    public static int countVisibleWithin(WebDriver driver, By locator) {
+        return countVisibleWithin(driver, locator, ConfigReader.getFastCheckMillis());
+    }
+
+    /**
+     * Get fast check statistics summary
+     * Misses are what the explicit wait path spent its full timeout on
+     * @return Human readable statistics
+     */
+    public static String getFastCheckSummary() {
+        long misses = fastCheckMisses.get();
+        long missMillis = fastCheckMissMillis.get();
+        long oldPathMillis = misses * (ConfigReader.getExplicitWait() * 1000L);
+        return String.format("Fast checks: calls=%d, misses=%d, missTime=%.1fs, explicitWaitPath=%.1fs, saved=%.1fs",
+                fastChecks.get(), misses, missMillis / 1000.0, oldPathMillis / 1000.0,
+                Math.max(0, oldPathMillis - missMillis) / 1000.0);
+    }
+
+    private static WebDriverWait getFastWait(WebDriver driver, long timeoutMillis) {
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofMillis(timeoutMillis));
+        wait.pollingEvery(Duration.ofMillis(FAST_CHECK_POLL_MILLIS));
+        return wait;
+    }
+
+    /**
+     * Wait for a locator condition with a timeout learned from earlier runs
+     * A learned wait that runs out while the element is in the DOM is extended up to
+     * explicit.wait and flagged as a regression; a missing element fails straight away
+     */
+    private static <T> T untilReady(WebDriver driver, By locator, ExpectedCondition<T> condition) {
+        if (!ConfigReader.isAdaptiveWaitEnabled()) {
+            return until(driver, getWait(driver), locator, condition);
+        }
+        String key = condition.toString();
+        LocatorTimeouts.Timeout timeout = LocatorTimeouts.getTimeout(key);
+        long start = System.currentTimeMillis();
+        T result;
+        if (!timeout.isLearned()) {
+            result = until(driver, getWait(driver), locator, condition);
+        } else {
+            try {
+                // The implicit wait would stretch a single poll past the learned timeout
+                result = withoutImplicitWait(driver, () -> until(driver,
+                        getWait(driver, timeout.getTimeoutMillis(), timeout.getPollingMillis()), locator, condition));
+            } catch (TimeoutException e) {
+                // Rows and cards only exist once their fetch returns; fail fast only if nothing is still loading
+                if (!withoutImplicitWait(driver, () -> !driver.findElements(locator).isEmpty())
+                        && isPageSettled(driver)) {
+                    LocatorTimeouts.recordFastFailure(key, timeout);
+                    throw e;
+                }
+                long remainingMillis = Math.max(0,
+                        ConfigReader.getExplicitWait() * 1000L - (System.currentTimeMillis() - start));
+                result = withoutImplicitWait(driver, () -> until(driver,
+                        getWait(driver, remainingMillis, timeout.getPollingMillis()), locator, condition));
+                LocatorTimeouts.recordRegression(key, timeout, System.currentTimeMillis() - start);
+            }
+        }
+        LocatorTimeouts.record(key, System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * Wait for a locator condition, reporting the resolution to the locator profiler when enabled
+     */
+    private static <T> T until(WebDriver driver, WebDriverWait wait, By locator, Function<WebDriver, T> condition) {
+        if (!LocatorProfiler.isEnabled()) {
+            return wait.until(condition);
+        }
+        int[] attempts = new int[1];
+        long start = System.nanoTime();
+        boolean found = false;
+        try {
+            T result = wait.until(d -> {
+                attempts[0]++;
+                return condition.apply(d);
+            });
+            found = true;
+            return result;
+        } finally {
+            LocatorProfiler.record(driver, locator, System.nanoTime() - start, attempts[0], found);
+        }
+    }
+
+    /**
+     * Run a lookup with the implicit wait suspended so empty results return immediately
+     */
+    private static <T> T withoutImplicitWait(WebDriver driver, Supplier<T> lookup) {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return lookup.get();
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
+        }
+    }
+
+    private static void recordFastCheck(boolean found, long startNanos) {
+        fastChecks.incrementAndGet();
+        if (!found) {
+            fastCheckMisses.incrementAndGet();
+            fastCheckMissMillis.addAndGet((System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    /**
+     * Wait inside the page until a JavaScript condition holds
+     * The condition is re-checked on every DOM mutation, so the wait costs a single
+     * WebDriver round trip and resolves within a frame of the change
+     * @param driver WebDriver instance
+     * @param conditionBody Function body receiving {@code args}; returns false or null while unmet.
+     *                      {@code countMatches(using, value)} is available to it
+     * @param timeoutMillis Maximum time to wait
+     * @param args Arguments passed to the condition
+     * @return Value returned by the condition, or null on timeout
+     */
+    public static Object waitForDomCondition(WebDriver driver, String conditionBody, long timeoutMillis, Object... args) {
+        Object[] scriptArgs = new Object[args.length + 2];
+        scriptArgs[0] = Math.min(timeoutMillis, MAX_SCRIPT_WAIT_MILLIS);
+        scriptArgs[1] = conditionBody;
+        System.arraycopy(args, 0, scriptArgs, 2, args.length);
+        return ((JavascriptExecutor) driver).executeAsyncScript(DOM_CONDITION_SCRIPT, scriptArgs);
+    }
+
+    /**
+     * Count elements matching a locator with a single in-page evaluation
+     * Does not wait and ignores the implicit wait
+     * @param driver WebDriver instance
+     * @param locator Element locator (xpath or css based)
+     * @return Number of matching elements
+     */
+    public static int countMatchesInPage(WebDriver driver, By locator) {
+        By.Remotable.Parameters params = toPageLocator(locator);
+        Object count = ((JavascriptExecutor) driver).executeScript(
+                COUNT_MATCHES_FUNCTION + "return countMatches(arguments[0], arguments[1]);",
+                params.using(), params.value());
+        return ((Number) count).intValue();
+    }
+
+    /**
+     * Wait until the number of elements matching a locator differs from a previous count
+     * @param driver WebDriver instance
+     * @param locator Element locator (xpath or css based)
+     * @param previousCount Count before the action
+     * @param timeoutMillis Maximum time to wait
+     * @return New count, or the previous count if it did not change in time
+     */
+    public static int waitForCountChange(WebDriver driver, By locator, int previousCount, long timeoutMillis) {
+        By.Remotable.Parameters params = toPageLocator(locator);
+        Object count = waitForDomCondition(driver,
+                "var count = countMatches(args[0], args[1]); return count !== args[2] ? count : null;",
+                timeoutMillis, params.using(), params.value(), previousCount);
+        return count == null ? previousCount : ((Number) count).intValue();
+    }
+
+    /**
+     * Wait for a submitted form to close, ending early when it shows an error
+     * @param driver WebDriver instance
+     * @param formLocator Element that only exists while the form is open (xpath or css based)
+     * @param errorLocator Error element inside the form (xpath or css based)
+     * @param timeoutMillis Maximum time to wait
+     * @return true if the form closed, false on an error or timeout
+     */
+    public static boolean waitForFormClosed(WebDriver driver, By formLocator, By errorLocator, long timeoutMillis) {
+        By.Remotable.Parameters form = toPageLocator(formLocator);
+        By.Remotable.Parameters error = toPageLocator(errorLocator);
+        Object outcome = waitForDomCondition(driver,
+                "if (countMatches(args[2], args[3]) > 0) { return 'error'; }"
+                        + "return countMatches(args[0], args[1]) === 0 ? 'closed' : null;",
+                timeoutMillis, form.using(), form.value(), error.using(), error.value());
+        return "closed".equals(outcome);
+    }
+
+    /**
+     * Wait until a list that is reloaded after an action shows a new, non-empty count and settles
+     * Lists that are replaced by a loading state while they refetch go through a count of 0
+     * first, which does not count as the change
+     * @param driver WebDriver instance
+     * @param locator Element locator (xpath or css based)
+     * @param previousCount Count before the action
+     * @param settleMillis Time the new count must stay unchanged
+     * @param timeoutMillis Maximum time to wait
+     * @return Settled new count, or the previous count if the list did not change in time
+     */
+    public static int waitForCountRefreshed(WebDriver driver, By locator, int previousCount, long settleMillis,
+                                            long timeoutMillis) {
+        long startMillis = System.currentTimeMillis();
+        By.Remotable.Parameters params = toPageLocator(locator);
+        Object count = waitForDomCondition(driver,
+                "var count = countMatches(args[0], args[1]); return count !== args[2] && count > 0 ? count : null;",
+                timeoutMillis, params.using(), params.value(), previousCount);
+        if (count == null) {
+            return previousCount;
+        }
+        long remainingMillis = timeoutMillis - (System.currentTimeMillis() - startMillis);
+        return waitForCountSettled(driver, locator, settleMillis, Math.max(settleMillis, remainingMillis));
+    }
+
+    /**
+     * Wait until the number of elements matching a locator stops changing
+     * @param driver WebDriver instance
+     * @param locator Element locator (xpath or css based)
+     * @param settleMillis Time the count must stay unchanged
+     * @param timeoutMillis Maximum time to wait
+     * @return Count once settled, or the latest count at timeout
+     */
+    public static int waitForCountSettled(WebDriver driver, By locator, long settleMillis, long timeoutMillis) {
+        By.Remotable.Parameters params = toPageLocator(locator);
+        Object count = ((JavascriptExecutor) driver).executeAsyncScript(COUNT_SETTLED_SCRIPT,
+                params.using(), params.value(), settleMillis, Math.min(timeoutMillis, MAX_SCRIPT_WAIT_MILLIS));
+        return ((Number) count).intValue();
+    }
+
+    /**
+     * Get the xpath or css selector behind a locator for evaluation inside the page
+     * @param locator Element locator
+     * @return Remote locator parameters
+     */
+    static By.Remotable.Parameters toPageLocator(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters params = ((By.Remotable) locator).getRemoteParameters();
+            if ("xpath".equals(params.using()) || "css selector".equals(params.using())) {
+                return params;
+            }
+        }
+        throw new IllegalArgumentException("Locator cannot be evaluated inside the page: " + locator);
+    }
+
+    /**
+     * Check if the page has loaded and no fetch/XHR request is in flight
+     * @param driver WebDriver instance
+     * @return true if settled, false if loading or unknown
+     */
+    private static boolean isPageSettled(WebDriver driver) {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(PAGE_SETTLED_SCRIPT));
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Register the network tracker to run before any page script
+     * Chromium only; other browsers install it lazily on the first idle wait
+     * @param driver WebDriver instance
+     */
+    public static void installNetworkTracker(WebDriver driver) {
+        if (driver instanceof HasCdp && ConfigReader.isNetworkIdleWaitEnabled()) {
+            try {
+                Map<String, Object> params = new HashMap<>();
+                params.put("source", NETWORK_TRACKER_SCRIPT);
+                ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", params);
+            } catch (WebDriverException e) {
+                LoggerUtils.debug("Could not preinstall network tracker: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Wait until the page has no fetch/XHR requests in flight for a quiet window
+     * @param driver WebDriver instance
+     * @param quietMillis Required time without network activity
+     * @param timeoutMillis Maximum time to wait
+     * @return true if the page became network idle before the timeout
+     */
+    public static boolean waitForNetworkIdle(WebDriver driver, long quietMillis, long timeoutMillis) {
+        Object idle = ((JavascriptExecutor) driver).executeAsyncScript(NETWORK_IDLE_SCRIPT,
+                quietMillis, Math.min(timeoutMillis, MAX_SCRIPT_WAIT_MILLIS));
+        return Boolean.TRUE.equals(idle);
+    }
+
+    /**
+     * Wait until the page has been network idle for the configured quiet window
+     * @param driver WebDriver instance
+     * @return true if the page became network idle before the explicit wait timeout
+     */
+    public static boolean waitForNetworkIdle(WebDriver driver) {
+        return waitForNetworkIdle(driver, ConfigReader.getNetworkQuietMillis(),
+                ConfigReader.getExplicitWait() * 1000);
+    }
+
     /**
      * Wait for specific duration (use sparingly)
+     * In network-idle mode this returns as soon as the current page has been
+     * network idle for the quiet window, with the duration as upper bound
      * @param seconds Seconds to wait
      */
     public static void wait(int seconds) {
+        long requestedMillis = seconds * 1000L;
+        long start = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        WebDriver driver = DriverManager.getCurrentDriver();
+
+        // Part of the wait that is framework overhead rather than application response time
+        long frameworkMillis;
+        if (driver != null && ConfigReader.isNetworkIdleWaitEnabled()) {
+            try {
+                long quietMillis = Math.min(ConfigReader.getNetworkQuietMillis(), requestedMillis);
+                waitForNetworkIdle(driver, quietMillis, requestedMillis);
+                frameworkMillis = Math.min(quietMillis, System.currentTimeMillis() - start);
+            } catch (WebDriverException e) {
+                // Page is navigating or blocked by an alert; sleep for the rest of the duration
+                sleep(requestedMillis - (System.currentTimeMillis() - start));
+                frameworkMillis = System.currentTimeMillis() - start;
+            }
+        } else {
+            sleep(requestedMillis);
+            frameworkMillis = System.currentTimeMillis() - start;
+        }
+
+        sleepCalls.incrementAndGet();
+        requestedSleepMillis.addAndGet(requestedMillis);
+        actualSleepMillis.addAndGet(System.currentTimeMillis() - start);
+        TransactionTimer.excludeTime(frameworkMillis * 1_000_000);
+        CommandTracer.recordSpan("wait", "framework", startNanos, seconds + "s");
+    }
+
+    /**
+     * Get summary of time spent in fixed waits
+     * @return Human readable statistics
+     */
+    public static String getSleepSummary() {
+        long requested = requestedSleepMillis.get();
+        long actual = actualSleepMillis.get();
+        return String.format("Fixed waits: calls=%d, requested=%.1fs, actual=%.1fs, saved=%.1fs",
+                sleepCalls.get(), requested / 1000.0, actual / 1000.0, Math.max(0, requested - actual) / 1000.0);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
         try {
-            Thread.sleep(seconds * 1000L);
+            Thread.sleep(millis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
 }
-
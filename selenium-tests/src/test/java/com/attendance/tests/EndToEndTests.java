@@ -27,22 +27,22 @@ public class EndToEndTests extends BaseTest {
     @Test(priority = 1, description = "Complete workflow: Login -> Add Worker -> Add Project -> View Attendance")
     public void testCompleteWorkflow() {
         LoggerUtils.info("Starting E2E test: Complete Workflow");
-        extentTest.log(com.aventstack.extentreports.Status.INFO, "Testing complete workflow");
+        getExtentTest().log(com.aventstack.extentreports.Status.INFO, "Testing complete workflow");
 
         // Step 1: Login
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page should be displayed");
         loginPage.login(ConfigReader.getAdminEmail(), ConfigReader.getAdminPassword());
         WaitUtils.wait(2);
 
         // Step 2: Verify Dashboard
-        DashboardPage dashboardPage = new DashboardPage(driver);
+        DashboardPage dashboardPage = new DashboardPage(getDriver());
         Assert.assertTrue(dashboardPage.isDashboardDisplayed(), "Dashboard should be displayed");
 
         // Step 3: Add Worker
         dashboardPage.clickWorkersLink();
         WaitUtils.wait(2);
-        WorkerPage workerPage = new WorkerPage(driver);
+        WorkerPage workerPage = new WorkerPage(getDriver());
         Assert.assertTrue(workerPage.isWorkerPageDisplayed(), "Worker page should be displayed");
         workerPage.addWorker(E2E_WORKER_NAME, E2E_WORKER_EMAIL, "9876543210", "Construction");
         WaitUtils.wait(2);
@@ -50,7 +50,7 @@ public class EndToEndTests extends BaseTest {
         // Step 4: Add Project
         dashboardPage.clickProjectsLink();
         WaitUtils.wait(2);
-        ProjectPage projectPage = new ProjectPage(driver);
+        ProjectPage projectPage = new ProjectPage(getDriver());
         Assert.assertTrue(projectPage.isProjectPageDisplayed(), "Project page should be displayed");
         
         LocalDate startDate = LocalDate.now();
@@ -70,44 +70,44 @@ public class EndToEndTests extends BaseTest {
         // Step 5: View Attendance
         dashboardPage.clickAttendanceLink();
         WaitUtils.wait(2);
-        AttendancePage attendancePage = new AttendancePage(driver);
+        AttendancePage attendancePage = new AttendancePage(getDriver());
         Assert.assertTrue(attendancePage.isAttendancePageDisplayed(), "Attendance page should be displayed");
         Assert.assertTrue(attendancePage.isAttendanceTableDisplayed(), "Attendance table should be displayed");
 
-        extentTest.log(com.aventstack.extentreports.Status.PASS, "Complete workflow executed successfully");
+        getExtentTest().log(com.aventstack.extentreports.Status.PASS, "Complete workflow executed successfully");
         LoggerUtils.info("Complete workflow test passed");
     }
 
     @Test(priority = 2, description = "Navigation flow: Test all sidebar links")
     public void testNavigationFlow() {
         LoggerUtils.info("Starting E2E test: Navigation Flow");
-        extentTest.log(com.aventstack.extentreports.Status.INFO, "Testing navigation flow");
+        getExtentTest().log(com.aventstack.extentreports.Status.INFO, "Testing navigation flow");
 
         // Login
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.login(ConfigReader.getAdminEmail(), ConfigReader.getAdminPassword());
         WaitUtils.wait(2);
 
-        DashboardPage dashboardPage = new DashboardPage(driver);
+        DashboardPage dashboardPage = new DashboardPage(getDriver());
         
         // Navigate through all pages
         dashboardPage.clickWorkersLink();
-        WaitUtils.waitForUrlContains(driver, "/workers");
-        Assert.assertTrue(driver.getCurrentUrl().contains("/workers"), "Should be on workers page");
+        WaitUtils.waitForUrlContains(getDriver(), "/workers");
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("/workers"), "Should be on workers page");
 
         dashboardPage.clickProjectsLink();
-        WaitUtils.waitForUrlContains(driver, "/projects");
-        Assert.assertTrue(driver.getCurrentUrl().contains("/projects"), "Should be on projects page");
+        WaitUtils.waitForUrlContains(getDriver(), "/projects");
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("/projects"), "Should be on projects page");
 
         dashboardPage.clickAttendanceLink();
-        WaitUtils.waitForUrlContains(driver, "/attendance");
-        Assert.assertTrue(driver.getCurrentUrl().contains("/attendance"), "Should be on attendance page");
+        WaitUtils.waitForUrlContains(getDriver(), "/attendance");
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("/attendance"), "Should be on attendance page");
 
         dashboardPage.clickDashboardLink();
-        WaitUtils.waitForUrlContains(driver, "/dashboard");
-        Assert.assertTrue(driver.getCurrentUrl().contains("/dashboard"), "Should be on dashboard page");
+        WaitUtils.waitForUrlContains(getDriver(), "/dashboard");
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("/dashboard"), "Should be on dashboard page");
 
-        extentTest.log(com.aventstack.extentreports.Status.PASS, "Navigation flow working correctly");
+        getExtentTest().log(com.aventstack.extentreports.Status.PASS, "Navigation flow working correctly");
         LoggerUtils.info("Navigation flow test passed");
     }
 }
@@ -0,0 +1,50 @@
+package com.attendance.tests;
+
+import com.attendance.base.BaseTest;
+import com.attendance.config.ConfigReader;
+import com.attendance.pages.AttendancePage;
+import com.attendance.pages.DashboardPage;
+import com.attendance.pages.LoginPage;
+import com.attendance.pages.ProjectPage;
+import com.attendance.pages.WorkerPage;
+import com.attendance.utils.LocatorProfiler;
+import com.attendance.utils.LoggerUtils;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark of page object locators against a seeded page of growing size
+ * Not part of testng.xml; run with mvn test -Dtest=LocatorBenchmarkTests
+ */
+public class LocatorBenchmarkTests extends BaseTest {
+
+    /**
+     * The benchmark seeds its own pages, so it runs while the portal is down
+     */
+    @Override
+    protected String getStartUrl() {
+        return "about:blank";
+    }
+
+    @Test(description = "Benchmark page object locators by DOM size")
+    public void testLocatorScaling() {
+        LoggerUtils.info("Starting test: Locator Benchmark");
+
+        List<Object> pages = Arrays.asList(new LoginPage(getDriver()), new DashboardPage(getDriver()),
+                new WorkerPage(getDriver()), new ProjectPage(getDriver()), new AttendancePage(getDriver()));
+        List<LocatorProfiler.BenchmarkResult> results = LocatorProfiler.benchmark(getDriver(), pages,
+                ConfigReader.getLocatorBenchmarkSizes(), ConfigReader.getLocatorBenchmarkRepetitions());
+        Assert.assertFalse(results.isEmpty(), "Page objects should expose locators");
+
+        StringBuilder table = new StringBuilder("cost at largest size, growth from smallest size, locator");
+        for (LocatorProfiler.BenchmarkResult result : results) {
+            table.append(System.lineSeparator()).append(result);
+        }
+        LoggerUtils.info(table.toString());
+        getExtentTest().info(MarkupHelper.createCodeBlock(table.toString()));
+    }
+}
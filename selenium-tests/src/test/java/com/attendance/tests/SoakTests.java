@@ -0,0 +1,137 @@
+package com.attendance.tests;
+
+import com.attendance.base.BaseTest;
+import com.attendance.config.ConfigReader;
+import com.attendance.pages.AttendancePage;
+import com.attendance.pages.DashboardPage;
+import com.attendance.pages.LoginPage;
+import com.attendance.pages.WorkerPage;
+import com.attendance.utils.LoggerUtils;
+import com.attendance.utils.SoakMonitor;
+import com.attendance.utils.WaitUtils;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Soak test looping user journeys in one browser session without reloads
+ * Samples retained memory after every cycle and fails on a leak verdict.
+ * Not part of testng.xml; run with mvn test -Dtest=SoakTests
+ */
+public class SoakTests extends BaseTest {
+
+    @Test(description = "Soak: loop journeys in one session and check for memory leaks")
+    public void testSoak() {
+        LoggerUtils.info("Starting soak test");
+        LoginPage loginPage = new LoginPage(getDriver());
+        loginPage.login(ConfigReader.getAdminEmail(), ConfigReader.getAdminPassword());
+        DashboardPage dashboardPage = new DashboardPage(getDriver());
+        Assert.assertTrue(dashboardPage.isDashboardDisplayed(), "Dashboard should be displayed");
+
+        Map<String, Runnable> journeys = new LinkedHashMap<>();
+        for (String name : ConfigReader.getSoakJourneys()) {
+            journeys.put(name, getJourney(name, dashboardPage));
+        }
+
+        long durationMillis = TimeUnit.MINUTES.toMillis(ConfigReader.getSoakDurationMinutes());
+        int maxCycles = durationMillis > 0 ? Integer.MAX_VALUE : ConfigReader.getSoakIterations();
+        long startMillis = System.currentTimeMillis();
+        List<SoakMonitor.Sample> samples = new ArrayList<>();
+        samples.add(SoakMonitor.sample(getDriver(), 0, 0));
+
+        for (int cycle = 1; cycle <= maxCycles; cycle++) {
+            long elapsedMillis = System.currentTimeMillis() - startMillis;
+            if (durationMillis > 0 && elapsedMillis >= durationMillis) {
+                break;
+            }
+            for (Runnable journey : journeys.values()) {
+                journey.run();
+            }
+            SoakMonitor.Sample sample = SoakMonitor.sample(getDriver(), cycle,
+                    System.currentTimeMillis() - startMillis);
+            samples.add(sample);
+            LoggerUtils.info("Soak " + sample);
+        }
+
+        SoakMonitor.LeakVerdict verdict = SoakMonitor.analyze(samples);
+        LoggerUtils.info("Soak verdict: " + verdict);
+        getExtentTest().log(verdict.isLeak() ? Status.WARNING : Status.INFO, "Soak verdict: " + verdict);
+        getExtentTest().info(MarkupHelper.createCodeBlock(summarize(samples)));
+
+        String reportPath = SoakMonitor.writeReport("testSoak", samples, verdict);
+        if (reportPath != null) {
+            getExtentTest().info("Soak samples: " + reportPath);
+        }
+        if (ConfigReader.isSoakHeapSnapshotEnabled()) {
+            String snapshotPath = SoakMonitor.takeHeapSnapshot(getDriver(), "testSoak");
+            if (snapshotPath != null) {
+                getExtentTest().info("Heap snapshot: " + snapshotPath);
+            }
+        }
+        Assert.assertFalse(verdict.isLeak(), "Memory grows with every cycle: " + verdict);
+    }
+
+    /**
+     * Journeys navigate through the sidebar so the single page app is never reloaded
+     */
+    private Runnable getJourney(String name, DashboardPage dashboardPage) {
+        switch (name) {
+            case "navigation":
+                return () -> {
+                    dashboardPage.clickWorkersLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/workers");
+                    dashboardPage.clickProjectsLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/projects");
+                    dashboardPage.clickAttendanceLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/attendance");
+                    dashboardPage.clickDashboardLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/dashboard");
+                };
+            case "attendanceFilters":
+                return () -> {
+                    dashboardPage.clickAttendanceLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/attendance");
+                    AttendancePage attendancePage = new AttendancePage(getDriver());
+                    attendancePage.filterByStatus("Checked In");
+                    attendancePage.filterByStatus("Checked Out");
+                    attendancePage.filterByStatus("All Status");
+                    dashboardPage.clickDashboardLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/dashboard");
+                };
+            case "workerSearch":
+                return () -> {
+                    dashboardPage.clickWorkersLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/workers");
+                    WorkerPage workerPage = new WorkerPage(getDriver());
+                    workerPage.searchWorker("a");
+                    workerPage.searchWorker("");
+                    dashboardPage.clickDashboardLink();
+                    WaitUtils.waitForUrlContains(getDriver(), "/dashboard");
+                };
+            default:
+                throw new IllegalArgumentException("Unknown soak journey: " + name);
+        }
+    }
+
+    /**
+     * At most about 20 evenly spaced samples; all of them are in the JSON report
+     */
+    private String summarize(List<SoakMonitor.Sample> samples) {
+        int step = Math.max(1, samples.size() / 20);
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < samples.size(); i += step) {
+            summary.append(samples.get(i)).append(System.lineSeparator());
+        }
+        if ((samples.size() - 1) % step != 0) {
+            summary.append(samples.get(samples.size() - 1));
+        }
+        return summary.toString().trim();
+    }
+}